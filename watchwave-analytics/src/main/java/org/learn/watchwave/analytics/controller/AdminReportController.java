@@ -0,0 +1,51 @@
+package org.learn.watchwave.analytics.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.learn.watchwave.analytics.dto.response.ReportResolutionResponse;
+import org.learn.watchwave.analytics.dto.response.ReportResponse;
+import org.learn.watchwave.analytics.dto.response.ReportedVideoResponse;
+import org.learn.watchwave.analytics.service.ReportService;
+import org.learn.watchwave.videos.util.AuthenticationHelper;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/admin/reports")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminReportController {
+
+    private final ReportService reportService;
+    private final AuthenticationHelper authHelper;
+
+    // Videos with open reports, most urgent first
+    @GetMapping("/queue")
+    public ResponseEntity<List<ReportedVideoResponse>> getQueue(
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(reportService.getModerationQueue(limit));
+    }
+
+    @GetMapping("/videos/{videoId}")
+    public ResponseEntity<Page<ReportResponse>> getOpenReports(
+            @PathVariable UUID videoId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(reportService.getOpenReports(videoId, PageRequest.of(page, size)));
+    }
+
+    // Closes every open report on the video; take action on the video itself through the video admin API
+    @PostMapping("/videos/{videoId}/resolve")
+    public ResponseEntity<ReportResolutionResponse> resolveReports(
+            @PathVariable UUID videoId,
+            Authentication authentication) {
+        UUID moderatorId = authHelper.extractUserId(authentication);
+        return ResponseEntity.ok(reportService.resolveReports(videoId, moderatorId));
+    }
+}
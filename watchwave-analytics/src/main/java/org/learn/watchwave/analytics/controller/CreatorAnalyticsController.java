@@ -0,0 +1,131 @@
+package org.learn.watchwave.analytics.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.learn.watchwave.analytics.dto.response.CreatorStatsResponse;
+import org.learn.watchwave.analytics.dto.response.ExportRunResponse;
+import org.learn.watchwave.analytics.dto.response.RetentionResponse;
+import org.learn.watchwave.analytics.dto.response.RollupRebuildResponse;
+import org.learn.watchwave.analytics.dto.response.SeriesResponse;
+import org.learn.watchwave.analytics.dto.response.UniqueViewersResponse;
+import org.learn.watchwave.analytics.dto.response.VideoStatsListResponse;
+import org.learn.watchwave.analytics.dto.response.VideoStatsResponse;
+import org.learn.watchwave.analytics.enums.SeriesGranularity;
+import org.learn.watchwave.analytics.service.CreatorAnalyticsService;
+import org.learn.watchwave.videos.util.AuthenticationHelper;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+public class CreatorAnalyticsController {
+
+    private final CreatorAnalyticsService creatorAnalyticsService;
+    private final AuthenticationHelper authHelper;
+
+    // Owner or admin only
+    @GetMapping("/videos/{videoId}")
+    public ResponseEntity<VideoStatsResponse> getVideoStats(
+            @PathVariable UUID videoId,
+            Authentication authentication) {
+        UUID userId = authHelper.extractUserId(authentication);
+        boolean isAdmin = authHelper.extractUserRoles(authentication).contains("ADMIN");
+        return ResponseEntity.ok(creatorAnalyticsService.getVideoStats(videoId, userId, isAdmin));
+    }
+
+    // Dates are inclusive, UTC
+    @GetMapping("/videos/{videoId}/series")
+    public ResponseEntity<SeriesResponse> getVideoSeries(
+            @PathVariable UUID videoId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "DAY") SeriesGranularity granularity,
+            Authentication authentication) {
+        UUID userId = authHelper.extractUserId(authentication);
+        boolean isAdmin = authHelper.extractUserRoles(authentication).contains("ADMIN");
+        return ResponseEntity.ok(
+                creatorAnalyticsService.getVideoSeries(videoId, userId, isAdmin, from, to, granularity));
+    }
+
+    // Approximate distinct viewers (signed-in and anonymous) across the inclusive UTC date range
+    @GetMapping("/videos/{videoId}/unique-viewers")
+    public ResponseEntity<UniqueViewersResponse> getVideoUniqueViewers(
+            @PathVariable UUID videoId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            Authentication authentication) {
+        UUID userId = authHelper.extractUserId(authentication);
+        boolean isAdmin = authHelper.extractUserRoles(authentication).contains("ADMIN");
+        return ResponseEntity.ok(
+                creatorAnalyticsService.getVideoUniqueViewers(videoId, userId, isAdmin, from, to));
+    }
+
+    // Owner or admin only; 100 points, one per percent of the video
+    @GetMapping("/videos/{videoId}/retention")
+    public ResponseEntity<RetentionResponse> getVideoRetention(
+            @PathVariable UUID videoId,
+            Authentication authentication) {
+        UUID userId = authHelper.extractUserId(authentication);
+        boolean isAdmin = authHelper.extractUserRoles(authentication).contains("ADMIN");
+        return ResponseEntity.ok(creatorAnalyticsService.getVideoRetention(videoId, userId, isAdmin));
+    }
+
+    @GetMapping("/creator/me/videos")
+    @PreAuthorize("hasRole('CREATOR') or hasRole('ADMIN')")
+    public ResponseEntity<VideoStatsListResponse> getMyVideoStats(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+        UUID creatorId = authHelper.extractUserId(authentication);
+        return ResponseEntity.ok(creatorAnalyticsService.getCreatorVideoStats(creatorId, PageRequest.of(page, size)));
+    }
+
+    @GetMapping("/creator/me/summary")
+    @PreAuthorize("hasRole('CREATOR') or hasRole('ADMIN')")
+    public ResponseEntity<CreatorStatsResponse> getMySummary(Authentication authentication) {
+        UUID creatorId = authHelper.extractUserId(authentication);
+        return ResponseEntity.ok(creatorAnalyticsService.getCreatorSummary(creatorId));
+    }
+
+    @GetMapping("/creator/me/series")
+    @PreAuthorize("hasRole('CREATOR') or hasRole('ADMIN')")
+    public ResponseEntity<SeriesResponse> getMySeries(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "DAY") SeriesGranularity granularity,
+            Authentication authentication) {
+        UUID creatorId = authHelper.extractUserId(authentication);
+        return ResponseEntity.ok(creatorAnalyticsService.getCreatorSeries(creatorId, from, to, granularity));
+    }
+
+    @GetMapping("/creator/me/unique-viewers")
+    @PreAuthorize("hasRole('CREATOR') or hasRole('ADMIN')")
+    public ResponseEntity<UniqueViewersResponse> getMyUniqueViewers(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            Authentication authentication) {
+        UUID creatorId = authHelper.extractUserId(authentication);
+        return ResponseEntity.ok(creatorAnalyticsService.getCreatorUniqueViewers(creatorId, from, to));
+    }
+
+    // Recomputes the rollup from raw tables; for repairing drift, not routine use
+    @PostMapping("/admin/rollup/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<RollupRebuildResponse> rebuildRollup() {
+        return ResponseEntity.ok(creatorAnalyticsService.rebuildVideoRollup());
+    }
+
+    // Runs the incremental file export now instead of waiting for the schedule
+    @PostMapping("/admin/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ExportRunResponse> runExport() {
+        return ResponseEntity.ok(creatorAnalyticsService.runExport());
+    }
+}
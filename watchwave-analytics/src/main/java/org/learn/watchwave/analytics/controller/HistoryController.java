@@ -0,0 +1,50 @@
+package org.learn.watchwave.analytics.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.learn.watchwave.analytics.dto.request.HeartbeatRequest;
+import org.learn.watchwave.analytics.dto.response.ContinueWatchingResponse;
+import org.learn.watchwave.analytics.dto.response.ResumePositionResponse;
+import org.learn.watchwave.analytics.service.HistoryService;
+import org.learn.watchwave.videos.util.AuthenticationHelper;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/users/me")
+@RequiredArgsConstructor
+public class HistoryController {
+
+    private final HistoryService historyService;
+    private final AuthenticationHelper authHelper;
+
+    // Players call this periodically (e.g. every 10 seconds) while a video is playing
+    @PostMapping("/history/heartbeat")
+    public ResponseEntity<Void> heartbeat(
+            @Valid @RequestBody HeartbeatRequest request,
+            Authentication authentication) {
+        UUID userId = authHelper.extractUserId(authentication);
+        historyService.recordHeartbeat(userId, request);
+        return ResponseEntity.accepted().build();
+    }
+
+    @GetMapping("/history/{videoId}/position")
+    public ResponseEntity<ResumePositionResponse> getResumePosition(
+            @PathVariable UUID videoId,
+            Authentication authentication) {
+        UUID userId = authHelper.extractUserId(authentication);
+        return ResponseEntity.ok(historyService.getResumePosition(userId, videoId));
+    }
+
+    @GetMapping("/continue-watching")
+    public ResponseEntity<List<ContinueWatchingResponse>> getContinueWatching(
+            @RequestParam(defaultValue = "20") int limit,
+            Authentication authentication) {
+        UUID userId = authHelper.extractUserId(authentication);
+        return ResponseEntity.ok(historyService.getContinueWatching(userId, limit));
+    }
+}
@@ -0,0 +1,31 @@
+package org.learn.watchwave.analytics.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.learn.watchwave.analytics.dto.request.ReportRequest;
+import org.learn.watchwave.analytics.dto.response.ReportSubmissionResponse;
+import org.learn.watchwave.analytics.service.ReportService;
+import org.learn.watchwave.videos.util.AuthenticationHelper;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/reports")
+@RequiredArgsConstructor
+public class ReportController {
+
+    private final ReportService reportService;
+    private final AuthenticationHelper authHelper;
+
+    // Reporting the same video again while the first report is open is a no-op
+    @PostMapping
+    public ResponseEntity<ReportSubmissionResponse> reportVideo(
+            @Valid @RequestBody ReportRequest request,
+            Authentication authentication) {
+        UUID reporterId = authHelper.extractUserId(authentication);
+        return ResponseEntity.accepted().body(reportService.reportVideo(reporterId, request));
+    }
+}
@@ -0,0 +1,32 @@
+package org.learn.watchwave.analytics.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.learn.watchwave.analytics.dto.response.TrendingCreatorResponse;
+import org.learn.watchwave.analytics.dto.response.TrendingResponse;
+import org.learn.watchwave.analytics.dto.response.TrendingVideoResponse;
+import org.learn.watchwave.analytics.service.TrendingService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/analytics/trending")
+@RequiredArgsConstructor
+public class TrendingController {
+
+    private final TrendingService trendingService;
+
+    // Public; rankings are per node and refreshed every few seconds
+    @GetMapping("/videos")
+    public ResponseEntity<TrendingResponse<TrendingVideoResponse>> getTrendingVideos(
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(required = false) Integer windowMinutes) {
+        return ResponseEntity.ok(trendingService.getTrendingVideos(limit, windowMinutes));
+    }
+
+    @GetMapping("/creators")
+    public ResponseEntity<TrendingResponse<TrendingCreatorResponse>> getTrendingCreators(
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(required = false) Integer windowMinutes) {
+        return ResponseEntity.ok(trendingService.getTrendingCreators(limit, windowMinutes));
+    }
+}
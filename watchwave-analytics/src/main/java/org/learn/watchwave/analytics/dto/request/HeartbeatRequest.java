@@ -0,0 +1,28 @@
+package org.learn.watchwave.analytics.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HeartbeatRequest {
+
+    @NotNull(message = "Video ID is required")
+    private UUID videoId;
+
+    // Current playback position
+    @NotNull(message = "Position is required")
+    @Min(value = 0, message = "Position cannot be negative")
+    private Integer positionSeconds;
+
+    // Seconds actually played since the previous heartbeat (capped so one beat can't inflate watch time)
+    @Min(value = 0, message = "Watched seconds cannot be negative")
+    @Max(value = 60, message = "Watched seconds per heartbeat cannot exceed 60")
+    private int watchedSeconds;
+}
@@ -0,0 +1,22 @@
+package org.learn.watchwave.analytics.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReportRequest {
+
+    @NotNull(message = "Video ID is required")
+    private UUID videoId;
+
+    @NotBlank(message = "Reason is required")
+    @Size(max = 1000, message = "Reason cannot exceed 1000 characters")
+    private String reason;
+}
@@ -0,0 +1,17 @@
+package org.learn.watchwave.analytics.dto.response;
+
+import lombok.*;
+import org.learn.watchwave.videos.dto.response.VideoResponse;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ContinueWatchingResponse {
+    private VideoResponse video;
+    private int positionSeconds;
+    private Integer watchPercent;
+    private Instant lastWatchedAt;
+}
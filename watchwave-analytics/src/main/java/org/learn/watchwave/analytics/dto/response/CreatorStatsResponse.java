@@ -0,0 +1,19 @@
+package org.learn.watchwave.analytics.dto.response;
+
+import lombok.*;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CreatorStatsResponse {
+    private UUID creatorId;
+    private long videoCount;
+    private long totalViews;
+    private long totalLikes;
+    private long totalDislikes;
+    private long totalWatchSeconds;
+    private long averageWatchTimeSeconds;
+}
@@ -0,0 +1,18 @@
+package org.learn.watchwave.analytics.dto.response;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExportRunResponse {
+    private List<ExportTableResult> tables;
+
+    // Rows stamped after this were left for the next run
+    private LocalDateTime upperBound;
+    private long durationMillis;
+}
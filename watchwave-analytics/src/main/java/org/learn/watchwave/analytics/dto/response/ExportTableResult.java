@@ -0,0 +1,21 @@
+package org.learn.watchwave.analytics.dto.response;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExportTableResult {
+    private String table;
+    private long rowsExported;
+    private int filesWritten;
+
+    // Timestamp of the last exported row; null when nothing new was exported
+    private LocalDateTime watermarkAt;
+
+    // True when another node was already exporting this table
+    private boolean skipped;
+}
@@ -0,0 +1,14 @@
+package org.learn.watchwave.analytics.dto.response;
+
+import lombok.*;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReportResolutionResponse {
+    private UUID videoId;
+    private int reportsResolved;
+}
@@ -0,0 +1,29 @@
+package org.learn.watchwave.analytics.dto.response;
+
+import lombok.*;
+import org.learn.watchwave.analytics.model.entity.Report;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReportResponse {
+    private UUID id;
+    private UUID reporterId;
+    private UUID videoId;
+    private String reason;
+    private Instant createdAt;
+
+    public static ReportResponse from(Report report) {
+        return ReportResponse.builder()
+                .id(report.getId())
+                .reporterId(report.getReporterId())
+                .videoId(report.getVideoId())
+                .reason(report.getReason())
+                .createdAt(report.getCreatedAt())
+                .build();
+    }
+}
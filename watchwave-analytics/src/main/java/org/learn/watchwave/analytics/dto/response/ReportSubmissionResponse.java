@@ -0,0 +1,16 @@
+package org.learn.watchwave.analytics.dto.response;
+
+import lombok.*;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReportSubmissionResponse {
+    private UUID videoId;
+
+    // True when the reporter already had an open report on this video; nothing new was recorded
+    private boolean alreadyReported;
+}
@@ -0,0 +1,29 @@
+package org.learn.watchwave.analytics.dto.response;
+
+import lombok.*;
+import org.learn.watchwave.analytics.report.ReportedVideo;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReportedVideoResponse {
+    private UUID videoId;
+    private long openReports;
+
+    // Reports weighted by age (halved every half-life); higher means more urgent
+    private double priority;
+    private Instant latestReportAt;
+
+    public static ReportedVideoResponse from(ReportedVideo video) {
+        return ReportedVideoResponse.builder()
+                .videoId(video.videoId())
+                .openReports(video.openReports())
+                .priority(video.priority())
+                .latestReportAt(video.latestReportAt())
+                .build();
+    }
+}
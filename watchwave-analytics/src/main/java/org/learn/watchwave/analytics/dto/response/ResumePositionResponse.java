@@ -0,0 +1,14 @@
+package org.learn.watchwave.analytics.dto.response;
+
+import lombok.*;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResumePositionResponse {
+    private UUID videoId;
+    private int positionSeconds; // 0 when the user hasn't watched the video
+}
@@ -0,0 +1,14 @@
+package org.learn.watchwave.analytics.dto.response;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RetentionPoint {
+    private int startPercent;   // bucket covers [startPercent, startPercent + 1) of the video
+    private int startSeconds;
+    private long plays;         // heartbeats that played through this part of the video
+    private double retention;   // plays relative to the first bucket; rewatches can push it above 1
+}
@@ -0,0 +1,16 @@
+package org.learn.watchwave.analytics.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RetentionResponse {
+    private UUID videoId;
+    private int durationSeconds;
+    private List<RetentionPoint> points;
+}
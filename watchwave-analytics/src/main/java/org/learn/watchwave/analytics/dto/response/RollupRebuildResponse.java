@@ -0,0 +1,12 @@
+package org.learn.watchwave.analytics.dto.response;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RollupRebuildResponse {
+    private int videosRebuilt;
+    private long durationMillis;
+}
@@ -0,0 +1,21 @@
+package org.learn.watchwave.analytics.dto.response;
+
+import lombok.*;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeriesPoint {
+    private Instant bucketStart; // UTC
+    private long views;
+    private long likes;          // net change within the bucket
+    private long dislikes;       // net change within the bucket
+    private long watchSeconds;
+
+    // Creator series only (null for video series)
+    private Long subscribersGained;
+    private Long subscribersLost;
+}
@@ -0,0 +1,20 @@
+package org.learn.watchwave.analytics.dto.response;
+
+import lombok.*;
+import org.learn.watchwave.analytics.enums.SeriesGranularity;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeriesResponse {
+    private UUID id; // video or creator ID
+    private SeriesGranularity granularity;
+    private LocalDate from;
+    private LocalDate to;
+    private List<SeriesPoint> points; // buckets without activity are omitted
+}
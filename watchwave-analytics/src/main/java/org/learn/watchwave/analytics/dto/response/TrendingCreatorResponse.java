@@ -0,0 +1,15 @@
+package org.learn.watchwave.analytics.dto.response;
+
+import lombok.*;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TrendingCreatorResponse {
+    private UUID creatorId;
+    private String username;
+    private long score;
+}
@@ -0,0 +1,18 @@
+package org.learn.watchwave.analytics.dto.response;
+
+import lombok.*;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TrendingResponse<T> {
+    private int windowMinutes;
+    private Instant generatedAt;
+
+    // Highest score first; scores are approximate upper bounds
+    private List<T> items;
+}
@@ -0,0 +1,13 @@
+package org.learn.watchwave.analytics.dto.response;
+
+import lombok.*;
+import org.learn.watchwave.videos.dto.response.VideoResponse;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TrendingVideoResponse {
+    private VideoResponse video;
+    private long score;
+}
@@ -0,0 +1,20 @@
+package org.learn.watchwave.analytics.dto.response;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UniqueViewersResponse {
+    private UUID id;
+    private LocalDate from;
+    private LocalDate to;
+
+    // HyperLogLog estimate; relative standard error is standardError
+    private long estimate;
+    private double standardError;
+}
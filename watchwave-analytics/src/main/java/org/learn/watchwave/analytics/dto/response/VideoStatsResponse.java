@@ -0,0 +1,35 @@
+package org.learn.watchwave.analytics.dto.response;
+
+import lombok.*;
+import org.learn.watchwave.analytics.model.projection.VideoStatsView;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VideoStatsResponse {
+    private UUID videoId;
+    private String title;
+    private Timestamp createdAt;
+    private long views;
+    private long likes;
+    private long dislikes;
+    private long totalWatchSeconds;
+    private int averageWatchTimeSeconds;
+
+    public static VideoStatsResponse from(VideoStatsView view) {
+        return VideoStatsResponse.builder()
+                .videoId(view.getVideoId())
+                .title(view.getTitle())
+                .createdAt(view.getCreatedAt())
+                .views(view.getViews())
+                .likes(view.getLikes())
+                .dislikes(view.getDislikes())
+                .totalWatchSeconds(view.getTotalWatchSeconds())
+                .averageWatchTimeSeconds(view.getAverageWatchTimeSeconds())
+                .build();
+    }
+}
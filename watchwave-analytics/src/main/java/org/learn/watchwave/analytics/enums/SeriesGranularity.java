@@ -0,0 +1,6 @@
+package org.learn.watchwave.analytics.enums;
+
+public enum SeriesGranularity {
+    HOUR,
+    DAY
+}
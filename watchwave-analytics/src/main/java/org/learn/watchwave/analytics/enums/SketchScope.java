@@ -0,0 +1,6 @@
+package org.learn.watchwave.analytics.enums;
+
+public enum SketchScope {
+    VIDEO,
+    CREATOR
+}
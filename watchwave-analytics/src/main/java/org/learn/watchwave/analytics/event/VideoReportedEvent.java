@@ -0,0 +1,8 @@
+package org.learn.watchwave.analytics.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// Published for each new (non-duplicate) report
+public record VideoReportedEvent(UUID videoId, Instant reportedAt) {
+}
@@ -0,0 +1,7 @@
+package org.learn.watchwave.analytics.event;
+
+import java.util.UUID;
+
+// Published when a moderator resolves all open reports on a video
+public record VideoReportsResolvedEvent(UUID videoId) {
+}
@@ -0,0 +1,199 @@
+package org.learn.watchwave.analytics.export;
+
+import lombok.extern.slf4j.Slf4j;
+import org.learn.watchwave.analytics.dto.response.ExportRunResponse;
+import org.learn.watchwave.analytics.dto.response.ExportTableResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Incrementally copies analytics and interaction tables to gzip CSV files on local disk,
+ * so analysts query files instead of the primary database.
+ *
+ * Each table has a (timestamp, id) watermark in analytics.export_watermarks. A run exports rows
+ * past the watermark in batches; each batch is one transaction that streams rows through a
+ * server-side cursor, publishes its files and advances the watermark. The watermark row is locked
+ * for the batch, so two nodes never export the same table at once.
+ */
+@Component
+@Slf4j
+public class AnalyticsExporter {
+
+    private static final LocalDateTime INITIAL_WATERMARK_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final UUID INITIAL_WATERMARK_ID = new UUID(0, 0);
+
+    private static final String ENSURE_WATERMARK =
+            "INSERT INTO analytics.export_watermarks (table_name, watermark_at, watermark_id, rows_exported, updated_at) " +
+            "VALUES (?, ?, ?, 0, CURRENT_TIMESTAMP) ON CONFLICT (table_name) DO NOTHING";
+
+    private static final String LOCK_WATERMARK =
+            "SELECT watermark_at, watermark_id FROM analytics.export_watermarks " +
+            "WHERE table_name = ? FOR UPDATE SKIP LOCKED";
+
+    private static final String ADVANCE_WATERMARK =
+            "UPDATE analytics.export_watermarks SET watermark_at = ?, watermark_id = ?, " +
+            "rows_exported = rows_exported + ?, updated_at = CURRENT_TIMESTAMP WHERE table_name = ?";
+
+    // Rows newer than this are left for the next run, so rows whose transaction commits late aren't skipped
+    private static final String EXPORT_UPPER_BOUND = "SELECT LOCALTIMESTAMP - make_interval(secs => ?)";
+
+    private record Watermark(LocalDateTime at, UUID id) {
+    }
+
+    private record BatchResult(long rows, int files, Watermark watermark) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate cursorJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Path exportRoot;
+    private final int batchRows;
+    private final long commitLagSeconds;
+
+    public AnalyticsExporter(JdbcTemplate jdbcTemplate,
+                             DataSource dataSource,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${app.analytics.export.enabled:false}") boolean enabled,
+                             @Value("${app.analytics.export.dir:./exports}") String exportDir,
+                             @Value("${app.analytics.export.fetch-size:5000}") int fetchSize,
+                             @Value("${app.analytics.export.batch-rows:1000000}") int batchRows,
+                             @Value("${app.analytics.export.commit-lag-seconds:300}") long commitLagSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.exportRoot = Path.of(exportDir);
+        this.batchRows = batchRows;
+        this.commitLagSeconds = commitLagSeconds;
+
+        // Inside a transaction the PostgreSQL driver only keeps fetchSize rows in memory at a time
+        this.cursorJdbcTemplate = new JdbcTemplate(dataSource);
+        this.cursorJdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    @Scheduled(cron = "${app.analytics.export.cron:0 30 2 * * *}", zone = "UTC")
+    public void scheduledExport() {
+        if (enabled) {
+            exportAll();
+        }
+    }
+
+    public ExportRunResponse exportAll() {
+        long start = System.currentTimeMillis();
+        LocalDateTime upperBound = jdbcTemplate.queryForObject(EXPORT_UPPER_BOUND, LocalDateTime.class, commitLagSeconds);
+
+        List<ExportTableResult> results = new ArrayList<>();
+        for (ExportTable table : ExportTable.values()) {
+            results.add(export(table, upperBound));
+        }
+
+        return ExportRunResponse.builder()
+                .tables(results)
+                .upperBound(upperBound)
+                .durationMillis(System.currentTimeMillis() - start)
+                .build();
+    }
+
+    private ExportTableResult export(ExportTable table, LocalDateTime upperBound) {
+        jdbcTemplate.update(ENSURE_WATERMARK, table.name(), INITIAL_WATERMARK_AT, INITIAL_WATERMARK_ID);
+
+        long rows = 0;
+        int files = 0;
+        Watermark watermark = null;
+        boolean skipped = false;
+        try {
+            while (true) {
+                BatchResult batch = transactionTemplate.execute(status -> exportBatch(table, upperBound));
+                if (batch == null) {
+                    skipped = rows == 0;
+                    break;
+                }
+                rows += batch.rows();
+                files += batch.files();
+                watermark = batch.watermark();
+                if (batch.rows() < batchRows) {
+                    break;
+                }
+            }
+            log.info("Exported {} row(s) of {} into {} file(s)", rows, table, files);
+        } catch (Exception e) {
+            log.error("Export of {} failed after {} row(s); it resumes from the last watermark next run", table, rows, e);
+        }
+
+        return ExportTableResult.builder()
+                .table(table.name())
+                .rowsExported(rows)
+                .filesWritten(files)
+                .watermarkAt(watermark != null ? watermark.at() : null)
+                .skipped(skipped)
+                .build();
+    }
+
+    // Returns null when another node holds the table's watermark
+    private BatchResult exportBatch(ExportTable table, LocalDateTime upperBound) {
+        List<Watermark> locked = jdbcTemplate.query(LOCK_WATERMARK,
+                (rs, i) -> new Watermark(rs.getTimestamp("watermark_at").toLocalDateTime(),
+                        rs.getObject("watermark_id", UUID.class)),
+                table.name());
+        if (locked.isEmpty()) {
+            log.debug("Export of {} already running on another node", table);
+            return null;
+        }
+
+        Watermark from = locked.get(0);
+        int timestampIndex = table.columns().indexOf(table.watermarkColumn()) + 1;
+        long[] rows = {0};
+        Watermark[] last = {from};
+
+        String batchId = System.currentTimeMillis() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        try (CsvPartitionWriter writer = new CsvPartitionWriter(
+                exportRoot.resolve(table.directoryName()), batchId, table.columns())) {
+            cursorJdbcTemplate.query(table.selectAfterWatermark(),
+                    rs -> {
+                        LocalDateTime at = rs.getTimestamp(timestampIndex).toLocalDateTime();
+                        writer.write(at.toLocalDate(), readRow(rs, table.columns().size()));
+                        last[0] = new Watermark(at, rs.getObject("id", UUID.class));
+                        rows[0]++;
+                    },
+                    from.at(), from.id(), upperBound, batchRows);
+
+            if (rows[0] == 0) {
+                return new BatchResult(0, 0, from);
+            }
+            int files = writer.fileCount();
+            // Published before the watermark commits: a crash in between re-exports the batch rather than losing it
+            writer.publish();
+            jdbcTemplate.update(ADVANCE_WATERMARK, last[0].at(), last[0].id(), rows[0], table.name());
+            if (table.pruneExported()) {
+                jdbcTemplate.update(table.deleteUpToWatermark(), last[0].at(), last[0].id());
+            }
+            return new BatchResult(rows[0], files, last[0]);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<Object> readRow(ResultSet rs, int columnCount) throws SQLException {
+        List<Object> values = new ArrayList<>(columnCount);
+        for (int i = 1; i <= columnCount; i++) {
+            Object value = rs.getObject(i);
+            values.add(value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : value);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,118 @@
+package org.learn.watchwave.analytics.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes one batch of rows as gzip CSV files partitioned by date:
+ * {@code <root>/<table>/date=YYYY-MM-DD/part-<batchId>.csv.gz}.
+ * Rows must arrive in date order, so only one file is open at a time. Files are written under
+ * a temporary name and only become visible on {@link #publish()}.
+ */
+class CsvPartitionWriter implements AutoCloseable {
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path tableDir;
+    private final String batchId;
+    private final List<String> header;
+    private final List<Path> written = new ArrayList<>();
+
+    private LocalDate currentDate;
+    private Writer current;
+
+    CsvPartitionWriter(Path tableDir, String batchId, List<String> header) {
+        this.tableDir = tableDir;
+        this.batchId = batchId;
+        this.header = header;
+    }
+
+    void write(LocalDate date, List<Object> values) {
+        try {
+            if (!date.equals(currentDate)) {
+                open(date);
+            }
+            writeLine(values);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    int fileCount() {
+        return written.size();
+    }
+
+    // Renames every file of the batch to its final name
+    void publish() throws IOException {
+        closeCurrent();
+        for (Path temp : written) {
+            String name = temp.getFileName().toString();
+            Files.move(temp, temp.resolveSibling(name.substring(0, name.length() - TEMP_SUFFIX.length())),
+                    StandardCopyOption.ATOMIC_MOVE);
+        }
+        written.clear();
+    }
+
+    // Removes unpublished files; safe to call after publish
+    @Override
+    public void close() throws IOException {
+        closeCurrent();
+        for (Path temp : written) {
+            Files.deleteIfExists(temp);
+        }
+        written.clear();
+    }
+
+    private void open(LocalDate date) throws IOException {
+        closeCurrent();
+        Path dir = tableDir.resolve("date=" + date);
+        Files.createDirectories(dir);
+        Path file = dir.resolve("part-" + batchId + ".csv.gz" + TEMP_SUFFIX);
+
+        current = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(file), 64 * 1024), StandardCharsets.UTF_8));
+        written.add(file);
+        currentDate = date;
+        writeLine(new ArrayList<>(header));
+    }
+
+    private void closeCurrent() throws IOException {
+        if (current != null) {
+            current.close();
+            current = null;
+            currentDate = null;
+        }
+    }
+
+    private void writeLine(List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                current.write(',');
+            }
+            Object value = values.get(i);
+            if (value != null) {
+                current.write(escape(value.toString()));
+            }
+        }
+        current.write('\n');
+    }
+
+    // RFC 4180: quote fields containing separators, quotes or line breaks
+    private static String escape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
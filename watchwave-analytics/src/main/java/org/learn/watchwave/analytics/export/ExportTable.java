@@ -0,0 +1,73 @@
+package org.learn.watchwave.analytics.export;
+
+import java.util.List;
+
+/**
+ * Tables copied by the analytics export. Rows are read in (watermark column, id) order,
+ * so each table needs an index on exactly those columns.
+ *
+ * The interaction tables export by updated_at, which a trigger bumps on every insert and update, so a
+ * changed row is exported again with its new state. History exports by watched_at, which every heartbeat
+ * upsert already moves forward; a second timestamp there would only add write cost to the hottest table. Deleted rows are recorded in
+ * analytics.export_tombstones and exported as the DELETES feed.
+ */
+public enum ExportTable {
+
+    HISTORY("analytics.history", "watched_at",
+            List.of("id", "user_id", "video_id", "watched_at", "watch_duration_seconds",
+                    "last_position_seconds", "watch_percent")),
+    COMMENTS("interactions.comments", "updated_at",
+            List.of("id", "user_id", "video_id", "parent_id", "content", "is_deleted", "deleted_at", "created_at",
+                    "updated_at")),
+    VIDEO_LIKES("interactions.video_likes", "updated_at",
+            List.of("id", "user_id", "video_id", "is_like", "created_at", "updated_at")),
+    WATCH_LATER("interactions.watch_later", "updated_at",
+            List.of("id", "user_id", "video_id", "added_at", "updated_at")),
+    SUBSCRIPTIONS("subscriptions.subscriptions", "updated_at",
+            List.of("id", "subscriber_id", "creator_id", "subscribed_at", "updated_at")),
+    // table_name is one of the names above, row_id the deleted row's id
+    DELETES("analytics.export_tombstones", "deleted_at",
+            List.of("id", "table_name", "row_id", "deleted_at"));
+
+    private final String qualifiedName;
+    private final String watermarkColumn;
+    private final List<String> columns;
+
+    ExportTable(String qualifiedName, String watermarkColumn, List<String> columns) {
+        this.qualifiedName = qualifiedName;
+        this.watermarkColumn = watermarkColumn;
+        this.columns = columns;
+    }
+
+    public String qualifiedName() {
+        return qualifiedName;
+    }
+
+    public String watermarkColumn() {
+        return watermarkColumn;
+    }
+
+    public List<String> columns() {
+        return columns;
+    }
+
+    // Directory name under the export root, e.g. "history"
+    public String directoryName() {
+        return name().toLowerCase();
+    }
+
+    // Exported tombstones have no other reader, so they are removed once their batch commits
+    boolean pruneExported() {
+        return this == DELETES;
+    }
+
+    String deleteUpToWatermark() {
+        return "DELETE FROM " + qualifiedName + " WHERE (" + watermarkColumn + ", id) <= (?, ?)";
+    }
+
+    String selectAfterWatermark() {
+        return "SELECT " + String.join(", ", columns) + " FROM " + qualifiedName +
+               " WHERE (" + watermarkColumn + ", id) > (?, ?) AND " + watermarkColumn + " <= ?" +
+               " ORDER BY " + watermarkColumn + ", id LIMIT ?";
+    }
+}
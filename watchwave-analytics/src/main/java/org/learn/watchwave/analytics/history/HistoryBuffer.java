@@ -0,0 +1,55 @@
+package org.learn.watchwave.analytics.history;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Watch sessions waiting to be written to analytics.history, one entry per (user, video).
+ * A viewer sending a heartbeat every 10 seconds costs one row write per flush, not one per beat.
+ */
+@Component
+@Slf4j
+public class HistoryBuffer {
+
+    private final ConcurrentHashMap<WatchKey, PendingWatch> pending = new ConcurrentHashMap<>();
+    private final int maxPending;
+
+    public HistoryBuffer(@Value("${app.analytics.history.max-pending:200000}") int maxPending) {
+        this.maxPending = maxPending;
+    }
+
+    // Returns false when the buffer is full; the player's next heartbeat carries the position again
+    public boolean record(WatchKey key, PendingWatch beat) {
+        if (pending.size() >= maxPending && !pending.containsKey(key)) {
+            return false;
+        }
+        pending.merge(key, beat, PendingWatch::merge);
+        return true;
+    }
+
+    // Removing entry by entry keeps beats that arrive mid-drain for the next flush
+    public Map<WatchKey, PendingWatch> drain() {
+        Map<WatchKey, PendingWatch> drained = new HashMap<>();
+        for (WatchKey key : pending.keySet()) {
+            PendingWatch watch = pending.remove(key);
+            if (watch != null) {
+                drained.put(key, watch);
+            }
+        }
+        return drained;
+    }
+
+    // Puts back sessions from a failed flush, merged with anything recorded since
+    public void restore(Map<WatchKey, PendingWatch> sessions) {
+        sessions.forEach((key, watch) -> pending.merge(key, watch, PendingWatch::merge));
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+}
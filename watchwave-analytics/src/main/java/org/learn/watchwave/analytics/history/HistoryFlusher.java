@@ -0,0 +1,90 @@
+package org.learn.watchwave.analytics.history;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.learn.watchwave.analytics.rollup.VideoRollupBuffer;
+import org.learn.watchwave.analytics.rollup.VideoStatsDelta;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Writes coalesced watch sessions to analytics.history as one batched upsert per flush.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HistoryFlusher {
+
+    private static final int BATCH_SIZE = 500;
+
+    // Selecting from videos drops heartbeats for videos that no longer exist instead of failing the FK
+    private static final String UPSERT_HISTORY =
+            "INSERT INTO analytics.history " +
+            "(id, user_id, video_id, watched_at, watch_duration_seconds, last_position_seconds, watch_percent) " +
+            "SELECT ?, ?, v.id, ?, ?, ?, LEAST(100, ? * 100 / NULLIF(v.video_duration_seconds, 0)) " +
+            "FROM videos.videos v WHERE v.id = ? " +
+            "ON CONFLICT (user_id, video_id) DO UPDATE SET " +
+            "watched_at = EXCLUDED.watched_at, " +
+            "watch_duration_seconds = COALESCE(analytics.history.watch_duration_seconds, 0) + EXCLUDED.watch_duration_seconds, " +
+            "last_position_seconds = EXCLUDED.last_position_seconds, " +
+            "watch_percent = EXCLUDED.watch_percent";
+
+    private final HistoryBuffer historyBuffer;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final VideoRollupBuffer rollupBuffer;
+
+    @Scheduled(fixedDelayString = "${app.analytics.history.flush-interval-ms:10000}")
+    public void flush() {
+        Map<WatchKey, PendingWatch> sessions = historyBuffer.drain();
+        if (sessions.isEmpty()) {
+            return;
+        }
+
+        // Same lock order on every node avoids deadlocks between concurrent flushes
+        List<Map.Entry<WatchKey, PendingWatch>> rows = new ArrayList<>(sessions.entrySet());
+        rows.sort(Map.Entry.comparingByKey());
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(UPSERT_HISTORY, rows, BATCH_SIZE, (ps, row) -> {
+                        WatchKey key = row.getKey();
+                        PendingWatch watch = row.getValue();
+                        ps.setObject(1, UUID.randomUUID());
+                        ps.setObject(2, key.userId());
+                        ps.setTimestamp(3, Timestamp.from(watch.lastBeatAt()));
+                        ps.setInt(4, watch.watchedSeconds());
+                        ps.setInt(5, watch.positionSeconds());
+                        ps.setInt(6, watch.positionSeconds());
+                        ps.setObject(7, key.videoId());
+                    }));
+            log.debug("Flushed {} watch session(s) to history", rows.size());
+        } catch (Exception e) {
+            historyBuffer.restore(sessions);
+            log.error("Failed to flush {} watch session(s), will retry", rows.size(), e);
+            return;
+        }
+
+        // Watch time reaches the video rollup only once it is in history, in the hour of its latest heartbeat
+        sessions.forEach((key, watch) -> {
+            if (watch.watchedSeconds() > 0) {
+                rollupBuffer.add(key.videoId(), watch.lastBeatAt(),
+                        VideoStatsDelta.ofWatchSeconds(watch.watchedSeconds()));
+            }
+        });
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,15 @@
+package org.learn.watchwave.analytics.history;
+
+import java.time.Instant;
+
+/**
+ * Heartbeats for one (user, video) pair coalesced since the last flush.
+ * Watched seconds add up; the position is whatever the newest heartbeat reported.
+ */
+public record PendingWatch(int watchedSeconds, int positionSeconds, Instant lastBeatAt) {
+
+    public PendingWatch merge(PendingWatch other) {
+        PendingWatch newer = other.lastBeatAt.isAfter(lastBeatAt) ? other : this;
+        return new PendingWatch(watchedSeconds + other.watchedSeconds, newer.positionSeconds, newer.lastBeatAt);
+    }
+}
@@ -0,0 +1,7 @@
+package org.learn.watchwave.analytics.history;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ResumeEntry(UUID videoId, int positionSeconds, Instant updatedAt) {
+}
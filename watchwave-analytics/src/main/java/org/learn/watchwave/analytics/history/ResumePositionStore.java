@@ -0,0 +1,123 @@
+package org.learn.watchwave.analytics.history;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.learn.watchwave.videos.service.PlaybackPositionProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Recent resume positions per user, kept in memory and updated by every heartbeat.
+ * The history flush persists them. The database is read to warm a user's entry, and again every
+ * {@code refresh-seconds} while the user is active, so positions written through other nodes show up here.
+ */
+@Component
+public class ResumePositionStore implements PlaybackPositionProvider {
+
+    private static final int MAX_ENTRIES_PER_USER = 100;
+
+    private static final String RECENT_POSITIONS =
+            "SELECT video_id, last_position_seconds, watched_at FROM analytics.history " +
+            "WHERE user_id = ? AND last_position_seconds IS NOT NULL " +
+            "ORDER BY watched_at DESC LIMIT " + MAX_ENTRIES_PER_USER;
+
+    private final AsyncLoadingCache<UUID, UserPositions> positions;
+    private final JdbcTemplate jdbcTemplate;
+
+    public ResumePositionStore(@Value("${app.analytics.resume.max-users:100000}") long maxUsers,
+                               @Value("${app.analytics.resume.idle-minutes:30}") long idleMinutes,
+                               @Value("${app.analytics.resume.refresh-seconds:60}") long refreshSeconds,
+                               JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.positions = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                // Reloads in the background on the first read after the interval; readers keep the old map meanwhile
+                .refreshAfterWrite(Duration.ofSeconds(refreshSeconds))
+                .buildAsync(new CacheLoader<UUID, UserPositions>() {
+                    @Override
+                    public UserPositions load(UUID userId) {
+                        UserPositions userPositions = new UserPositions();
+                        loadPositions(userId, userPositions);
+                        return userPositions;
+                    }
+
+                    // Merged into the live map, newest per video wins, so heartbeats this node hasn't flushed
+                    // yet (or that arrive during the reload) are kept
+                    @Override
+                    public UserPositions reload(UUID userId, UserPositions current) {
+                        loadPositions(userId, current);
+                        return current;
+                    }
+                });
+    }
+
+    public void update(UUID userId, ResumeEntry entry) {
+        positions.get(userId).thenAccept(userPositions -> userPositions.update(entry));
+    }
+
+    // Answers only from memory; a cold user is warmed in the background and gets no position this time
+    @Override
+    public OptionalInt findResumePosition(UUID userId, UUID videoId) {
+        CompletableFuture<UserPositions> future = positions.getIfPresent(userId);
+        if (future == null) {
+            positions.get(userId);
+            return OptionalInt.empty();
+        }
+        if (!future.isDone() || future.isCompletedExceptionally()) {
+            return OptionalInt.empty();
+        }
+
+        ResumeEntry entry = future.join().entries.get(videoId);
+        return entry == null ? OptionalInt.empty() : OptionalInt.of(entry.positionSeconds());
+    }
+
+    // Waits for the user's entry to load if needed; for API reads, not the streaming path
+    public List<ResumeEntry> findRecent(UUID userId) {
+        return positions.get(userId).join().entries.values().stream()
+                .sorted(Comparator.comparing(ResumeEntry::updatedAt).reversed())
+                .toList();
+    }
+
+    public OptionalInt findPosition(UUID userId, UUID videoId) {
+        ResumeEntry entry = positions.get(userId).join().entries.get(videoId);
+        return entry == null ? OptionalInt.empty() : OptionalInt.of(entry.positionSeconds());
+    }
+
+    private void loadPositions(UUID userId, UserPositions userPositions) {
+        jdbcTemplate.query(RECENT_POSITIONS, rs -> {
+            userPositions.update(new ResumeEntry(
+                    rs.getObject("video_id", UUID.class),
+                    rs.getInt("last_position_seconds"),
+                    rs.getTimestamp("watched_at").toInstant()));
+        }, userId);
+    }
+
+    private static class UserPositions {
+
+        private final Map<UUID, ResumeEntry> entries = new ConcurrentHashMap<>();
+
+        // Keeps the newest entry per video and drops the stalest video once the cap is reached
+        synchronized void update(ResumeEntry entry) {
+            entries.merge(entry.videoId(), entry,
+                    (current, incoming) -> incoming.updatedAt().isBefore(current.updatedAt()) ? current : incoming);
+
+            if (entries.size() > MAX_ENTRIES_PER_USER) {
+                entries.values().stream()
+                        .min(Comparator.comparing(ResumeEntry::updatedAt))
+                        .ifPresent(oldest -> entries.remove(oldest.videoId()));
+            }
+        }
+    }
+}
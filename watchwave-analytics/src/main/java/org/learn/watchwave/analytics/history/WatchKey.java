@@ -0,0 +1,15 @@
+package org.learn.watchwave.analytics.history;
+
+import java.util.Comparator;
+import java.util.UUID;
+
+public record WatchKey(UUID userId, UUID videoId) implements Comparable<WatchKey> {
+
+    private static final Comparator<WatchKey> ORDER =
+            Comparator.comparing(WatchKey::userId).thenComparing(WatchKey::videoId);
+
+    @Override
+    public int compareTo(WatchKey other) {
+        return ORDER.compare(this, other);
+    }
+}
@@ -0,0 +1,42 @@
+package org.learn.watchwave.analytics.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// New rows are inserted by ReportRepository.insertIfAbsent so duplicates are skipped in the database
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "reports", schema = "analytics")
+public class Report {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "reporter_id", nullable = false)
+    private UUID reporterId;
+
+    @Column(name = "video_id", nullable = false)
+    private UUID videoId;
+
+    @Column(name = "reason")
+    private String reason;
+
+    @Column(name = "is_resolved")
+    private boolean resolved;
+
+    @Column(name = "created_at", insertable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "resolved_by")
+    private UUID resolvedBy;
+
+    @Column(name = "resolved_at")
+    private Instant resolvedAt;
+}
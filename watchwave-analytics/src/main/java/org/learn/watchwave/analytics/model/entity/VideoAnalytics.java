@@ -0,0 +1,36 @@
+package org.learn.watchwave.analytics.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+// Read side of the rollup table; rows are written by VideoRollupFlusher
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "video_analytics", schema = "analytics")
+public class VideoAnalytics {
+
+    @Id
+    @Column(name = "video_id")
+    private UUID videoId;
+
+    @Column(name = "total_views")
+    private Long totalViews;
+
+    @Column(name = "likes")
+    private Long likes;
+
+    @Column(name = "dislikes")
+    private Long dislikes;
+
+    @Column(name = "total_watch_seconds")
+    private Long totalWatchSeconds;
+
+    @Column(name = "average_watch_time_seconds")
+    private Integer averageWatchTimeSeconds;
+}
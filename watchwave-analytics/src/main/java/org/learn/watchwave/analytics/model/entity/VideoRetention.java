@@ -0,0 +1,29 @@
+package org.learn.watchwave.analytics.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// Read side of the retention table; rows are written by RetentionFlusher
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "video_retention", schema = "analytics")
+public class VideoRetention {
+
+    @Id
+    @Column(name = "video_id")
+    private UUID videoId;
+
+    // Packed RetentionHistogram counters
+    @Column(name = "buckets", nullable = false)
+    private byte[] buckets;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+}
@@ -0,0 +1,9 @@
+package org.learn.watchwave.analytics.model.projection;
+
+public interface CreatorStatsView {
+    Long getVideoCount();
+    Long getTotalViews();
+    Long getTotalLikes();
+    Long getTotalDislikes();
+    Long getTotalWatchSeconds();
+}
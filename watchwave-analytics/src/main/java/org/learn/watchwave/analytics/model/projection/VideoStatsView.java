@@ -0,0 +1,15 @@
+package org.learn.watchwave.analytics.model.projection;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+public interface VideoStatsView {
+    UUID getVideoId();
+    String getTitle();
+    Timestamp getCreatedAt();
+    Long getViews();
+    Long getLikes();
+    Long getDislikes();
+    Long getTotalWatchSeconds();
+    Integer getAverageWatchTimeSeconds();
+}
@@ -0,0 +1,140 @@
+package org.learn.watchwave.analytics.report;
+
+import lombok.extern.slf4j.Slf4j;
+import org.learn.watchwave.analytics.event.VideoReportedEvent;
+import org.learn.watchwave.analytics.event.VideoReportsResolvedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Videos with open reports, ordered by report velocity: each report counts 1 and then decays
+ * with a configurable half-life, so a burst of recent reports outranks a long tail of old ones.
+ *
+ * Scores are kept as the log of the report weights relative to a fixed origin. All entries decay at
+ * the same rate, so their order never changes with time and the ordered set only needs updating
+ * when a report arrives or is resolved.
+ */
+@Component
+@Slf4j
+public class ReportQueue {
+
+    private static final String LOAD_OPEN_REPORTS =
+            "SELECT video_id, COUNT(*) AS open_reports, MAX(created_at) AS latest_report_at, " +
+            "SUM(EXP(-EXTRACT(EPOCH FROM (LOCALTIMESTAMP - created_at)) / ?)) AS decayed " +
+            "FROM analytics.reports WHERE is_resolved = FALSE GROUP BY video_id";
+
+    private record Entry(UUID videoId, double logScore, long openReports, Instant latestReportAt) {
+    }
+
+    private static final Comparator<Entry> BY_PRIORITY = Comparator.comparingDouble(Entry::logScore).reversed()
+            .thenComparing(Entry::videoId);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Instant origin = Instant.now();
+    private final double decaySeconds;
+
+    private Map<UUID, Entry> entries = new HashMap<>();
+    private TreeSet<Entry> byPriority = new TreeSet<>(BY_PRIORITY);
+
+    public ReportQueue(JdbcTemplate jdbcTemplate,
+                       @Value("${app.analytics.reports.half-life-minutes:60}") long halfLifeMinutes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.decaySeconds = Duration.ofMinutes(halfLifeMinutes).toSeconds() / Math.log(2);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onVideoReported(VideoReportedEvent event) {
+        Entry existing = entries.get(event.videoId());
+        double weight = logWeight(event.reportedAt());
+
+        Entry updated = existing == null
+                ? new Entry(event.videoId(), weight, 1, event.reportedAt())
+                : new Entry(event.videoId(), logAdd(existing.logScore(), weight), existing.openReports() + 1,
+                        event.reportedAt().isAfter(existing.latestReportAt()) ? event.reportedAt() : existing.latestReportAt());
+        put(existing, updated);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onReportsResolved(VideoReportsResolvedEvent event) {
+        Entry existing = entries.remove(event.videoId());
+        if (existing != null) {
+            byPriority.remove(existing);
+        }
+    }
+
+    public synchronized List<ReportedVideo> top(int limit) {
+        double now = logWeight(Instant.now());
+        List<ReportedVideo> top = new ArrayList<>(Math.min(limit, byPriority.size()));
+        for (Entry entry : byPriority) {
+            if (top.size() == limit) {
+                break;
+            }
+            top.add(new ReportedVideo(entry.videoId(), entry.openReports(),
+                    Math.exp(entry.logScore() - now), entry.latestReportAt()));
+        }
+        return top;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Rebuilds the queue from unresolved reports (one GROUP BY over the partial index).
+     * Runs at startup and periodically, which also picks up reports and resolutions handled by other nodes.
+     */
+    @Scheduled(fixedDelayString = "${app.analytics.reports.resync-interval-ms:60000}")
+    public void resync() {
+        Instant now = Instant.now();
+        double nowWeight = logWeight(now);
+        Map<UUID, Entry> loaded = new HashMap<>();
+
+        jdbcTemplate.query(LOAD_OPEN_REPORTS,
+                rs -> {
+                    UUID videoId = rs.getObject("video_id", UUID.class);
+                    double decayed = Math.max(rs.getDouble("decayed"), Double.MIN_NORMAL);
+                    loaded.put(videoId, new Entry(videoId, Math.log(decayed) + nowWeight,
+                            rs.getLong("open_reports"), rs.getTimestamp("latest_report_at").toInstant()));
+                },
+                decaySeconds);
+
+        TreeSet<Entry> ordered = new TreeSet<>(BY_PRIORITY);
+        ordered.addAll(loaded.values());
+        synchronized (this) {
+            entries = loaded;
+            byPriority = ordered;
+        }
+        log.debug("Report queue resynced with {} video(s)", loaded.size());
+    }
+
+    private void put(Entry existing, Entry updated) {
+        if (existing != null) {
+            byPriority.remove(existing);
+        }
+        entries.put(updated.videoId(), updated);
+        byPriority.add(updated);
+    }
+
+    // log of a report's weight relative to the origin; grows linearly, so it never overflows
+    private double logWeight(Instant at) {
+        return Duration.between(origin, at).toMillis() / 1000.0 / decaySeconds;
+    }
+
+    private static double logAdd(double a, double b) {
+        double max = Math.max(a, b);
+        return max + Math.log1p(Math.exp(Math.min(a, b) - max));
+    }
+}
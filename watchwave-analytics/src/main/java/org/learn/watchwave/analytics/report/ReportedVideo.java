@@ -0,0 +1,8 @@
+package org.learn.watchwave.analytics.report;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// A queue entry as seen by callers; priority is the decayed report count at the time of the read
+public record ReportedVideo(UUID videoId, long openReports, double priority, Instant latestReportAt) {
+}
@@ -0,0 +1,41 @@
+package org.learn.watchwave.analytics.repository;
+
+import org.learn.watchwave.analytics.model.entity.Report;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Repository
+public interface ReportRepository extends JpaRepository<Report, UUID> {
+
+    // Returns 0 when the reporter already has an open report on the video (uq_reports_open_reporter_video)
+    @Modifying
+    @Query(value = """
+            INSERT INTO analytics.reports (id, reporter_id, video_id, reason, is_resolved, created_at)
+            VALUES (:id, :reporterId, :videoId, :reason, FALSE, CURRENT_TIMESTAMP)
+            ON CONFLICT (reporter_id, video_id) WHERE is_resolved = FALSE DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id,
+                       @Param("reporterId") UUID reporterId,
+                       @Param("videoId") UUID videoId,
+                       @Param("reason") String reason);
+
+    // Served by the partial index idx_reports_open_video
+    Page<Report> findByVideoIdAndResolvedFalseOrderByCreatedAtDesc(UUID videoId, Pageable pageable);
+
+    @Modifying
+    @Query("""
+            UPDATE Report r SET r.resolved = true, r.resolvedBy = :resolvedBy, r.resolvedAt = :resolvedAt
+            WHERE r.videoId = :videoId AND r.resolved = false
+            """)
+    int resolveOpenReports(@Param("videoId") UUID videoId,
+                           @Param("resolvedBy") UUID resolvedBy,
+                           @Param("resolvedAt") Instant resolvedAt);
+}
@@ -0,0 +1,40 @@
+package org.learn.watchwave.analytics.repository;
+
+import org.learn.watchwave.analytics.model.entity.VideoAnalytics;
+import org.learn.watchwave.analytics.model.projection.CreatorStatsView;
+import org.learn.watchwave.analytics.model.projection.VideoStatsView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface VideoAnalyticsRepository extends JpaRepository<VideoAnalytics, UUID> {
+
+    // Dashboards read the rollup only; videos without a rollup row yet show zeros
+    String STATS_COLUMNS = "SELECT v.id AS videoId, v.title AS title, v.createdAt AS createdAt, " +
+            "COALESCE(a.totalViews, 0) AS views, COALESCE(a.likes, 0) AS likes, " +
+            "COALESCE(a.dislikes, 0) AS dislikes, COALESCE(a.totalWatchSeconds, 0) AS totalWatchSeconds, " +
+            "COALESCE(a.averageWatchTimeSeconds, 0) AS averageWatchTimeSeconds " +
+            "FROM Video v LEFT JOIN VideoAnalytics a ON a.videoId = v.id ";
+
+    @Query(STATS_COLUMNS + "WHERE v.id = :videoId")
+    Optional<VideoStatsView> findStatsByVideoId(@Param("videoId") UUID videoId);
+
+    @Query(value = STATS_COLUMNS +
+            "WHERE v.uploader.id = :uploaderId AND v.isDeleted = false ORDER BY v.createdAt DESC",
+            countQuery = "SELECT COUNT(v) FROM Video v WHERE v.uploader.id = :uploaderId AND v.isDeleted = false")
+    Page<VideoStatsView> findStatsByUploaderId(@Param("uploaderId") UUID uploaderId, Pageable pageable);
+
+    @Query("SELECT COUNT(v) AS videoCount, COALESCE(SUM(a.totalViews), 0) AS totalViews, " +
+            "COALESCE(SUM(a.likes), 0) AS totalLikes, COALESCE(SUM(a.dislikes), 0) AS totalDislikes, " +
+            "COALESCE(SUM(a.totalWatchSeconds), 0) AS totalWatchSeconds " +
+            "FROM Video v LEFT JOIN VideoAnalytics a ON a.videoId = v.id " +
+            "WHERE v.uploader.id = :uploaderId AND v.isDeleted = false")
+    CreatorStatsView findCreatorTotals(@Param("uploaderId") UUID uploaderId);
+}
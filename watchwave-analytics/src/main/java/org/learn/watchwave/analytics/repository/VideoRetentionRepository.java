@@ -0,0 +1,11 @@
+package org.learn.watchwave.analytics.repository;
+
+import org.learn.watchwave.analytics.model.entity.VideoRetention;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface VideoRetentionRepository extends JpaRepository<VideoRetention, UUID> {
+}
@@ -0,0 +1,98 @@
+package org.learn.watchwave.analytics.retention;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Adds pending retention counts to the packed histograms in analytics.video_retention.
+ * Each flush is one transaction: create missing rows, lock the affected rows, add, write back.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RetentionFlusher {
+
+    private static final int BATCH_SIZE = 500;
+
+    // Selecting from videos skips deleted videos; existing rows are left alone
+    private static final String INSERT_MISSING =
+            "INSERT INTO analytics.video_retention (video_id, buckets, updated_at) " +
+            "SELECT v.id, ?, CURRENT_TIMESTAMP FROM videos.videos v WHERE v.id = ? " +
+            "ON CONFLICT (video_id) DO NOTHING";
+
+    private static final String LOCK_ROWS =
+            "SELECT video_id, buckets FROM analytics.video_retention " +
+            "WHERE video_id = ANY(?) ORDER BY video_id FOR UPDATE";
+
+    private static final String UPDATE_ROW =
+            "UPDATE analytics.video_retention SET buckets = ?, updated_at = CURRENT_TIMESTAMP WHERE video_id = ?";
+
+    private final RetentionTracker retentionTracker;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(fixedDelayString = "${app.analytics.retention.flush-interval-ms:30000}")
+    public void flush() {
+        Map<UUID, long[]> pending = retentionTracker.drain();
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // Same lock order on every node avoids deadlocks between concurrent flushes
+        List<UUID> videoIds = new ArrayList<>(pending.keySet());
+        videoIds.sort(null);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> apply(videoIds, pending));
+            log.debug("Flushed retention counts for {} video(s)", videoIds.size());
+        } catch (Exception e) {
+            retentionTracker.restore(pending);
+            log.error("Failed to flush retention counts for {} video(s), will retry", videoIds.size(), e);
+        }
+    }
+
+    private void apply(List<UUID> videoIds, Map<UUID, long[]> pending) {
+        byte[] empty = RetentionHistogram.pack(new long[RetentionHistogram.BUCKETS]);
+        jdbcTemplate.batchUpdate(INSERT_MISSING, videoIds, BATCH_SIZE, (ps, videoId) -> {
+            ps.setBytes(1, empty);
+            ps.setObject(2, videoId);
+        });
+
+        // Row locks make the read-add-write safe against flushes on other nodes
+        Map<UUID, long[]> merged = new HashMap<>();
+        jdbcTemplate.query(LOCK_ROWS,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", videoIds.toArray())),
+                rs -> {
+                    UUID videoId = rs.getObject("video_id", UUID.class);
+                    long[] counts = RetentionHistogram.unpack(rs.getBytes("buckets"));
+                    long[] delta = pending.get(videoId);
+                    for (int i = 0; i < counts.length; i++) {
+                        counts[i] += delta[i];
+                    }
+                    merged.put(videoId, counts);
+                });
+
+        List<Map.Entry<UUID, long[]>> rows = new ArrayList<>(merged.entrySet());
+        rows.sort(Map.Entry.comparingByKey());
+        jdbcTemplate.batchUpdate(UPDATE_ROW, rows, BATCH_SIZE, (ps, row) -> {
+            ps.setBytes(1, RetentionHistogram.pack(row.getValue()));
+            ps.setObject(2, row.getKey());
+        });
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,45 @@
+package org.learn.watchwave.analytics.retention;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Fixed layout of a retention histogram: one counter per percent of the video's duration.
+ * Persisted as 100 big-endian longs (800 bytes) so rows never need parsing beyond a single copy.
+ */
+public final class RetentionHistogram {
+
+    public static final int BUCKETS = 100;
+    public static final int PACKED_BYTES = BUCKETS * Long.BYTES;
+
+    private RetentionHistogram() {
+    }
+
+    // Buckets covered by playing [fromSeconds, toSeconds) of a video; empty (first > last) if nothing was played
+    static int firstBucket(int fromSeconds, int durationSeconds) {
+        return (int) Math.min(BUCKETS - 1, (long) fromSeconds * BUCKETS / durationSeconds);
+    }
+
+    static int lastBucket(int toSeconds, int durationSeconds) {
+        return (int) Math.min(BUCKETS - 1, ((long) toSeconds * BUCKETS - 1) / durationSeconds);
+    }
+
+    public static byte[] pack(long[] counts) {
+        ByteBuffer buffer = ByteBuffer.allocate(PACKED_BYTES);
+        for (long count : counts) {
+            buffer.putLong(count);
+        }
+        return buffer.array();
+    }
+
+    public static long[] unpack(byte[] packed) {
+        long[] counts = new long[BUCKETS];
+        if (packed == null) {
+            return counts;
+        }
+        if (packed.length != PACKED_BYTES) {
+            throw new IllegalArgumentException("Retention histogram must be " + PACKED_BYTES + " bytes");
+        }
+        ByteBuffer.wrap(packed).asLongBuffer().get(counts);
+        return counts;
+    }
+}
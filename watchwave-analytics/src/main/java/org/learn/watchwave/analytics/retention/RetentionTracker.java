@@ -0,0 +1,121 @@
+package org.learn.watchwave.analytics.retention;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Pending retention increments per video, waiting for the next flush.
+ * Each heartbeat adds one to every position bucket it played through, with plain atomic
+ * increments, so concurrent viewers of the same video never block each other.
+ */
+@Component
+public class RetentionTracker {
+
+    private static final String FIND_DURATION =
+            "SELECT COALESCE(video_duration_seconds, 0) FROM videos.videos WHERE id = ?";
+
+    private final ConcurrentHashMap<UUID, AtomicLongArray> pending = new ConcurrentHashMap<>();
+    private final LoadingCache<UUID, Integer> durations;
+
+    // Arrays removed on the last drain; a writer may still have incremented one after removal
+    private Map<UUID, AtomicLongArray> retired = new HashMap<>();
+
+    public RetentionTracker(JdbcTemplate jdbcTemplate,
+                            @Value("${app.analytics.retention.duration-cache-size:100000}") long durationCacheSize) {
+        this.durations = Caffeine.newBuilder()
+                .maximumSize(durationCacheSize)
+                .expireAfterWrite(Duration.ofMinutes(30))
+                .build(videoId -> jdbcTemplate.query(FIND_DURATION,
+                        rs -> rs.next() ? rs.getInt(1) : 0, videoId));
+    }
+
+    // watchedSeconds of playback ending at positionSeconds
+    public void record(UUID videoId, int positionSeconds, int watchedSeconds) {
+        if (watchedSeconds <= 0) {
+            return;
+        }
+        int duration = durations.get(videoId);
+        if (duration <= 0) {
+            return;
+        }
+
+        int to = Math.min(positionSeconds, duration);
+        int from = Math.max(0, to - watchedSeconds);
+        if (to <= from) {
+            return;
+        }
+
+        AtomicLongArray buckets = pending.computeIfAbsent(videoId, id -> new AtomicLongArray(RetentionHistogram.BUCKETS));
+        int last = RetentionHistogram.lastBucket(to, duration);
+        for (int bucket = RetentionHistogram.firstBucket(from, duration); bucket <= last; bucket++) {
+            buckets.incrementAndGet(bucket);
+        }
+    }
+
+    // Called only from the single flushing thread
+    public synchronized Map<UUID, long[]> drain() {
+        Map<UUID, long[]> drained = new HashMap<>();
+        retired.forEach((videoId, buckets) -> takeInto(drained, videoId, buckets));
+
+        Map<UUID, AtomicLongArray> nowRetired = new HashMap<>();
+        for (Map.Entry<UUID, AtomicLongArray> entry : pending.entrySet()) {
+            if (!takeInto(drained, entry.getKey(), entry.getValue())
+                    && pending.remove(entry.getKey(), entry.getValue())) {
+                // Idle video: drop its array but check it once more on the next drain
+                nowRetired.put(entry.getKey(), entry.getValue());
+            }
+        }
+        retired = nowRetired;
+        return drained;
+    }
+
+    // Puts back counts from a failed flush so they are retried next time
+    public void restore(Map<UUID, long[]> counts) {
+        counts.forEach((videoId, values) -> {
+            AtomicLongArray buckets = pending.computeIfAbsent(videoId, id -> new AtomicLongArray(RetentionHistogram.BUCKETS));
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != 0) {
+                    buckets.addAndGet(i, values[i]);
+                }
+            }
+        });
+    }
+
+    // Unflushed counts on this node, added to persisted counts when serving a curve
+    public long[] pendingCounts(UUID videoId) {
+        long[] counts = new long[RetentionHistogram.BUCKETS];
+        AtomicLongArray buckets = pending.get(videoId);
+        if (buckets != null) {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = buckets.get(i);
+            }
+        }
+        return counts;
+    }
+
+    private static boolean takeInto(Map<UUID, long[]> drained, UUID videoId, AtomicLongArray buckets) {
+        long[] taken = null;
+        for (int i = 0; i < RetentionHistogram.BUCKETS; i++) {
+            long count = buckets.getAndSet(i, 0);
+            if (count != 0) {
+                if (taken == null) {
+                    taken = drained.computeIfAbsent(videoId, id -> new long[RetentionHistogram.BUCKETS]);
+                }
+                taken[i] += count;
+            }
+        }
+        return taken != null;
+    }
+}
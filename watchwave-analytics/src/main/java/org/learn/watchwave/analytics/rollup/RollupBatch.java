@@ -0,0 +1,11 @@
+package org.learn.watchwave.analytics.rollup;
+
+import java.util.Map;
+
+// Everything drained from the buffer for one flush
+public record RollupBatch(Map<RollupKey, VideoStatsDelta> videos, Map<RollupKey, SubscriberDelta> subscribers) {
+
+    public boolean isEmpty() {
+        return videos.isEmpty() && subscribers.isEmpty();
+    }
+}
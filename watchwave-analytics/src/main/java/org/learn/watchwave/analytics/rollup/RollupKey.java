@@ -0,0 +1,17 @@
+package org.learn.watchwave.analytics.rollup;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.UUID;
+
+// A video or creator ID plus the UTC hour the change falls into
+public record RollupKey(UUID id, Instant hour) implements Comparable<RollupKey> {
+
+    private static final Comparator<RollupKey> ORDER =
+            Comparator.comparing(RollupKey::id).thenComparing(RollupKey::hour);
+
+    @Override
+    public int compareTo(RollupKey other) {
+        return ORDER.compare(this, other);
+    }
+}
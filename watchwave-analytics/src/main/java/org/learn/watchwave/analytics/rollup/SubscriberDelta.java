@@ -0,0 +1,14 @@
+package org.learn.watchwave.analytics.rollup;
+
+public record SubscriberDelta(long gained, long lost) {
+
+    public static final SubscriberDelta NONE = new SubscriberDelta(0, 0);
+
+    public static SubscriberDelta of(int delta) {
+        return delta > 0 ? new SubscriberDelta(delta, 0) : new SubscriberDelta(0, -delta);
+    }
+
+    public SubscriberDelta plus(SubscriberDelta other) {
+        return new SubscriberDelta(gained + other.gained, lost + other.lost);
+    }
+}
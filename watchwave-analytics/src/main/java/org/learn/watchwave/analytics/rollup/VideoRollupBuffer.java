@@ -0,0 +1,72 @@
+package org.learn.watchwave.analytics.rollup;
+
+import org.learn.watchwave.common.event.CreatorSubscriptionChangedEvent;
+import org.learn.watchwave.common.event.VideoLikeChangedEvent;
+import org.learn.watchwave.common.event.VideoViewsRecordedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pending analytics increments, merged per video (or creator, for subscribers) and UTC hour
+ * until the next rollup flush. Fed by like changes, flushed view counts, flushed watch history
+ * and subscription changes. Each change is bucketed by when it happened, not when it arrives here,
+ * so upstream buffering and retried flushes never shift it into a later hour.
+ */
+@Component
+public class VideoRollupBuffer {
+
+    private final ConcurrentHashMap<RollupKey, VideoStatsDelta> videoDeltas = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<RollupKey, SubscriberDelta> subscriberDeltas = new ConcurrentHashMap<>();
+
+    // Only committed changes are counted; a rolled back like never reaches the rollup
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikeChanged(VideoLikeChangedEvent event) {
+        add(event.videoId(), event.occurredAt(), VideoStatsDelta.ofLikes(event.likeDelta(), event.dislikeDelta()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onViewsRecorded(VideoViewsRecordedEvent event) {
+        event.viewCounts().forEach((videoId, views) -> add(videoId, event.hour(), VideoStatsDelta.ofViews(views)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSubscriptionChanged(CreatorSubscriptionChangedEvent event) {
+        subscriberDeltas.merge(new RollupKey(event.creatorId(), hourOf(event.occurredAt())),
+                SubscriberDelta.of(event.delta()), SubscriberDelta::plus);
+    }
+
+    public void add(UUID videoId, Instant occurredAt, VideoStatsDelta delta) {
+        videoDeltas.merge(new RollupKey(videoId, hourOf(occurredAt)), delta, VideoStatsDelta::plus);
+    }
+
+    public RollupBatch drain() {
+        return new RollupBatch(drain(videoDeltas), drain(subscriberDeltas));
+    }
+
+    public void restore(RollupBatch batch) {
+        batch.videos().forEach((key, delta) -> videoDeltas.merge(key, delta, VideoStatsDelta::plus));
+        batch.subscribers().forEach((key, delta) -> subscriberDeltas.merge(key, delta, SubscriberDelta::plus));
+    }
+
+    private static <V> Map<RollupKey, V> drain(ConcurrentHashMap<RollupKey, V> pending) {
+        Map<RollupKey, V> drained = new HashMap<>();
+        for (RollupKey key : pending.keySet()) {
+            V value = pending.remove(key);
+            if (value != null) {
+                drained.put(key, value);
+            }
+        }
+        return drained;
+    }
+
+    private static Instant hourOf(Instant occurredAt) {
+        return occurredAt.truncatedTo(ChronoUnit.HOURS);
+    }
+}
@@ -0,0 +1,274 @@
+package org.learn.watchwave.analytics.rollup;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Array;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Applies buffered deltas in one transaction per flush: batched upserts into
+ * analytics.video_analytics (totals) and the hourly video and creator series tables.
+ * Can also rebuild the totals from the raw tables if the rollup ever drifts.
+ */
+@Component
+@Slf4j
+public class VideoRollupFlusher {
+
+    private static final int BATCH_SIZE = 500;
+
+    // Parameters: views, likes, dislikes, watch seconds, average, video id, then likes and dislikes again
+    private static final String UPSERT_ROLLUP =
+            "INSERT INTO analytics.video_analytics AS va " +
+            "(video_id, total_views, likes, dislikes, total_watch_seconds, average_watch_time_seconds) " +
+            "SELECT v.id, ?, GREATEST(?, 0), GREATEST(?, 0), ?, ? FROM videos.videos v WHERE v.id = ? " +
+            "ON CONFLICT (video_id) DO UPDATE SET " +
+            "total_views = COALESCE(va.total_views, 0) + EXCLUDED.total_views, " +
+            "likes = GREATEST(COALESCE(va.likes, 0) + ?, 0), " +
+            "dislikes = GREATEST(COALESCE(va.dislikes, 0) + ?, 0), " +
+            "total_watch_seconds = COALESCE(va.total_watch_seconds, 0) + EXCLUDED.total_watch_seconds, " +
+            "average_watch_time_seconds = COALESCE(" +
+            "(COALESCE(va.total_watch_seconds, 0) + EXCLUDED.total_watch_seconds) " +
+            "/ NULLIF(COALESCE(va.total_views, 0) + EXCLUDED.total_views, 0), 0)";
+
+    private static final String REBUILD_ROLLUP =
+            "INSERT INTO analytics.video_analytics " +
+            "(video_id, total_views, likes, dislikes, total_watch_seconds, average_watch_time_seconds) " +
+            "SELECT v.id, COALESCE(v.views, 0), COALESCE(l.likes, 0), COALESCE(l.dislikes, 0), " +
+            "COALESCE(h.watch_seconds, 0), COALESCE(COALESCE(h.watch_seconds, 0) / NULLIF(v.views, 0), 0) " +
+            "FROM videos.videos v " +
+            "LEFT JOIN (SELECT video_id, COUNT(*) FILTER (WHERE is_like) AS likes, " +
+            "COUNT(*) FILTER (WHERE NOT is_like) AS dislikes " +
+            "FROM interactions.video_likes WHERE video_id = ANY(?) GROUP BY video_id) l ON l.video_id = v.id " +
+            "LEFT JOIN (SELECT video_id, SUM(watch_duration_seconds) AS watch_seconds " +
+            "FROM analytics.history WHERE video_id = ANY(?) GROUP BY video_id) h ON h.video_id = v.id " +
+            "WHERE v.id = ANY(?) " +
+            "ON CONFLICT (video_id) DO UPDATE SET " +
+            "total_views = EXCLUDED.total_views, likes = EXCLUDED.likes, dislikes = EXCLUDED.dislikes, " +
+            "total_watch_seconds = EXCLUDED.total_watch_seconds, " +
+            "average_watch_time_seconds = EXCLUDED.average_watch_time_seconds";
+
+    private static final String UPSERT_VIDEO_HOURLY =
+            "INSERT INTO analytics.video_stats_hourly AS h " +
+            "(video_id, bucket_start, views, likes, dislikes, watch_seconds) " +
+            "SELECT v.id, ?, ?, ?, ?, ? FROM videos.videos v WHERE v.id = ? " +
+            "ON CONFLICT (video_id, bucket_start) DO UPDATE SET " +
+            "views = h.views + EXCLUDED.views, likes = h.likes + EXCLUDED.likes, " +
+            "dislikes = h.dislikes + EXCLUDED.dislikes, watch_seconds = h.watch_seconds + EXCLUDED.watch_seconds";
+
+    private static final String UPSERT_CREATOR_HOURLY =
+            "INSERT INTO analytics.creator_stats_hourly AS h " +
+            "(creator_id, bucket_start, views, likes, dislikes, watch_seconds, subscribers_gained, subscribers_lost) " +
+            "SELECT u.id, ?, ?, ?, ?, ?, ?, ? FROM auth.users u WHERE u.id = ? " +
+            "ON CONFLICT (creator_id, bucket_start) DO UPDATE SET " +
+            "views = h.views + EXCLUDED.views, likes = h.likes + EXCLUDED.likes, " +
+            "dislikes = h.dislikes + EXCLUDED.dislikes, watch_seconds = h.watch_seconds + EXCLUDED.watch_seconds, " +
+            "subscribers_gained = h.subscribers_gained + EXCLUDED.subscribers_gained, " +
+            "subscribers_lost = h.subscribers_lost + EXCLUDED.subscribers_lost";
+
+    // Tells the series compactor which days to fold again. Marked first in the flush, so once the compactor
+    // holds its lock on this table no flush is left half-written
+    private static final String MARK_DAY_DIRTY =
+            "INSERT INTO analytics.series_dirty_days (bucket_date) VALUES (?) ON CONFLICT (bucket_date) DO NOTHING";
+
+    private static final String NEXT_REBUILD_BATCH =
+            "SELECT id FROM videos.videos WHERE id > ? ORDER BY id LIMIT ?";
+
+    // Blocks writers of every source table until the batch commits; readers are unaffected
+    private static final String LOCK_SOURCES =
+            "LOCK TABLE videos.videos, interactions.video_likes, analytics.history IN SHARE MODE";
+
+    private static final String FIND_UPLOADERS =
+            "SELECT id, uploader_id FROM videos.videos WHERE id = ANY(?) AND uploader_id IS NOT NULL";
+
+    private final VideoRollupBuffer rollupBuffer;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int rebuildBatchSize;
+
+    public VideoRollupFlusher(VideoRollupBuffer rollupBuffer,
+                              JdbcTemplate jdbcTemplate,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${app.analytics.rollup.rebuild-batch-size:1000}") int rebuildBatchSize) {
+        this.rollupBuffer = rollupBuffer;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.rebuildBatchSize = rebuildBatchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${app.analytics.rollup.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        RollupBatch batch = rollupBuffer.drain();
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // Rows are sorted so every node takes row locks in the same order
+        List<Map.Entry<UUID, VideoStatsDelta>> totals = sorted(totalsPerVideo(batch.videos()));
+        List<Map.Entry<RollupKey, VideoStatsDelta>> videoHours = sorted(batch.videos());
+        List<LocalDate> days = touchedDays(batch);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(MARK_DAY_DIRTY, days, BATCH_SIZE,
+                        (ps, day) -> ps.setObject(1, day));
+
+                jdbcTemplate.batchUpdate(UPSERT_ROLLUP, totals, BATCH_SIZE, (ps, row) -> {
+                    VideoStatsDelta delta = row.getValue();
+                    ps.setLong(1, delta.views());
+                    ps.setLong(2, delta.likes());
+                    ps.setLong(3, delta.dislikes());
+                    ps.setLong(4, delta.watchSeconds());
+                    ps.setLong(5, delta.views() > 0 ? delta.watchSeconds() / delta.views() : 0);
+                    ps.setObject(6, row.getKey());
+                    ps.setLong(7, delta.likes());
+                    ps.setLong(8, delta.dislikes());
+                });
+
+                jdbcTemplate.batchUpdate(UPSERT_VIDEO_HOURLY, videoHours, BATCH_SIZE, (ps, row) -> {
+                    VideoStatsDelta delta = row.getValue();
+                    ps.setObject(1, toUtc(row.getKey().hour()));
+                    ps.setLong(2, delta.views());
+                    ps.setLong(3, delta.likes());
+                    ps.setLong(4, delta.dislikes());
+                    ps.setLong(5, delta.watchSeconds());
+                    ps.setObject(6, row.getKey().id());
+                });
+
+                List<Map.Entry<RollupKey, CreatorHourStats>> creatorHours = sorted(creatorHours(batch));
+                jdbcTemplate.batchUpdate(UPSERT_CREATOR_HOURLY, creatorHours, BATCH_SIZE, (ps, row) -> {
+                    VideoStatsDelta delta = row.getValue().stats();
+                    SubscriberDelta subscribers = row.getValue().subscribers();
+                    ps.setObject(1, toUtc(row.getKey().hour()));
+                    ps.setLong(2, delta.views());
+                    ps.setLong(3, delta.likes());
+                    ps.setLong(4, delta.dislikes());
+                    ps.setLong(5, delta.watchSeconds());
+                    ps.setLong(6, subscribers.gained());
+                    ps.setLong(7, subscribers.lost());
+                    ps.setObject(8, row.getKey().id());
+                });
+            });
+            log.debug("Rolled up analytics for {} video(s), {} video hour(s)", totals.size(), videoHours.size());
+        } catch (Exception e) {
+            rollupBuffer.restore(batch);
+            log.error("Failed to roll up analytics for {} video(s), will retry", totals.size(), e);
+        }
+    }
+
+    /**
+     * Recomputes every row from videos, likes and history, a batch of videos at a time. Each batch locks the
+     * source tables only for its own short statement, so no change can commit between reading the raw rows and
+     * overwriting the totals. This node's buffer is flushed, in its own transaction, before each batch. Deltas
+     * still buffered on other nodes for changes committed before a batch are added once more when they flush;
+     * that is at most one flush interval of their activity on the videos in that batch.
+     */
+    public int rebuildAll() {
+        int rows = 0;
+        UUID after = new UUID(0, 0);
+        while (true) {
+            List<UUID> batch = jdbcTemplate.queryForList(NEXT_REBUILD_BATCH, UUID.class, after, rebuildBatchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+            flush();
+            Integer rebuilt = transactionTemplate.execute(status -> {
+                jdbcTemplate.execute(LOCK_SOURCES);
+                return jdbcTemplate.update(REBUILD_ROLLUP, ps -> {
+                    Array ids = ps.getConnection().createArrayOf("uuid", batch.toArray());
+                    ps.setArray(1, ids);
+                    ps.setArray(2, ids);
+                    ps.setArray(3, ids);
+                });
+            });
+            rows += rebuilt == null ? 0 : rebuilt;
+            after = batch.get(batch.size() - 1);
+        }
+        log.info("Rebuilt video analytics rollup for {} video(s)", rows);
+        return rows;
+    }
+
+    private static List<LocalDate> touchedDays(RollupBatch batch) {
+        return Stream.concat(batch.videos().keySet().stream(), batch.subscribers().keySet().stream())
+                .map(key -> toUtc(key.hour()).toLocalDate())
+                .distinct()
+                .sorted()
+                .toList();
+    }
+
+    private Map<UUID, VideoStatsDelta> totalsPerVideo(Map<RollupKey, VideoStatsDelta> videoHours) {
+        Map<UUID, VideoStatsDelta> totals = new HashMap<>();
+        videoHours.forEach((key, delta) -> totals.merge(key.id(), delta, VideoStatsDelta::plus));
+        return totals;
+    }
+
+    // Re-keys video deltas by uploader and adds the subscriber changes for the same hour
+    private Map<RollupKey, CreatorHourStats> creatorHours(RollupBatch batch) {
+        Map<UUID, UUID> uploaders = findUploaders(batch.videos().keySet().stream()
+                .map(RollupKey::id)
+                .distinct()
+                .toList());
+
+        Map<RollupKey, CreatorHourStats> creatorHours = new HashMap<>();
+        batch.videos().forEach((key, delta) -> {
+            UUID creatorId = uploaders.get(key.id());
+            if (creatorId != null) {
+                creatorHours.merge(new RollupKey(creatorId, key.hour()),
+                        new CreatorHourStats(delta, SubscriberDelta.NONE), CreatorHourStats::plus);
+            }
+        });
+        batch.subscribers().forEach((key, delta) -> creatorHours.merge(key,
+                new CreatorHourStats(VideoStatsDelta.NONE, delta), CreatorHourStats::plus));
+        return creatorHours;
+    }
+
+    private Map<UUID, UUID> findUploaders(List<UUID> videoIds) {
+        Map<UUID, UUID> uploaders = new HashMap<>();
+        if (videoIds.isEmpty()) {
+            return uploaders;
+        }
+        jdbcTemplate.query(FIND_UPLOADERS,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", videoIds.toArray())),
+                rs -> {
+                    uploaders.put(rs.getObject("id", UUID.class), rs.getObject("uploader_id", UUID.class));
+                });
+        return uploaders;
+    }
+
+    private static <K extends Comparable<K>, V> List<Map.Entry<K, V>> sorted(Map<K, V> rows) {
+        List<Map.Entry<K, V>> sorted = new ArrayList<>(rows.entrySet());
+        sorted.sort(Map.Entry.comparingByKey());
+        return sorted;
+    }
+
+    // Bucket columns are plain TIMESTAMPs holding UTC
+    private static LocalDateTime toUtc(Instant hour) {
+        return LocalDateTime.ofInstant(hour, ZoneOffset.UTC);
+    }
+
+    private record CreatorHourStats(VideoStatsDelta stats, SubscriberDelta subscribers) {
+
+        CreatorHourStats plus(CreatorHourStats other) {
+            return new CreatorHourStats(stats.plus(other.stats), subscribers.plus(other.subscribers));
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,24 @@
+package org.learn.watchwave.analytics.rollup;
+
+// Changes to one video's aggregates accumulated since the last rollup flush
+public record VideoStatsDelta(long views, long likes, long dislikes, long watchSeconds) {
+
+    public static final VideoStatsDelta NONE = new VideoStatsDelta(0, 0, 0, 0);
+
+    public static VideoStatsDelta ofViews(long views) {
+        return new VideoStatsDelta(views, 0, 0, 0);
+    }
+
+    public static VideoStatsDelta ofLikes(long likes, long dislikes) {
+        return new VideoStatsDelta(0, likes, dislikes, 0);
+    }
+
+    public static VideoStatsDelta ofWatchSeconds(long watchSeconds) {
+        return new VideoStatsDelta(0, 0, 0, watchSeconds);
+    }
+
+    public VideoStatsDelta plus(VideoStatsDelta other) {
+        return new VideoStatsDelta(views + other.views, likes + other.likes,
+                dislikes + other.dislikes, watchSeconds + other.watchSeconds);
+    }
+}
@@ -0,0 +1,67 @@
+package org.learn.watchwave.analytics.series;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// The hourly/daily table pair backing one kind of series
+public enum SeriesTable {
+
+    VIDEO("analytics.video_stats_hourly", "analytics.video_stats_daily", "video_id", false),
+    CREATOR("analytics.creator_stats_hourly", "analytics.creator_stats_daily", "creator_id", true);
+
+    private final String hourlyTable;
+    private final String dailyTable;
+    private final String idColumn;
+    private final boolean hasSubscribers;
+
+    SeriesTable(String hourlyTable, String dailyTable, String idColumn, boolean hasSubscribers) {
+        this.hourlyTable = hourlyTable;
+        this.dailyTable = dailyTable;
+        this.idColumn = idColumn;
+        this.hasSubscribers = hasSubscribers;
+    }
+
+    public String hourlyTable() {
+        return hourlyTable;
+    }
+
+    public String dailyTable() {
+        return dailyTable;
+    }
+
+    public String idColumn() {
+        return idColumn;
+    }
+
+    // Metric columns shared by the hourly and daily tables
+    public String metricColumns() {
+        return hasSubscribers
+                ? "views, likes, dislikes, watch_seconds, subscribers_gained, subscribers_lost"
+                : "views, likes, dislikes, watch_seconds";
+    }
+
+    public String summedMetricColumns() {
+        return mapMetricColumns(column -> "SUM(" + column + ") AS " + column);
+    }
+
+    // SET clause that overwrites every metric with the incoming row's value
+    public String overwriteMetricColumns() {
+        return mapMetricColumns(column -> column + " = EXCLUDED." + column);
+    }
+
+    // SET clause that adds the incoming row's values to the existing daily row
+    public String addMetricColumns() {
+        return mapMetricColumns(column -> column + " = " + dailyTable + "." + column + " + EXCLUDED." + column);
+    }
+
+    public boolean hasSubscribers() {
+        return hasSubscribers;
+    }
+
+    private String mapMetricColumns(Function<String, String> mapper) {
+        return Arrays.stream(metricColumns().split(", "))
+                .map(mapper)
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,101 @@
+package org.learn.watchwave.analytics.series;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Folds hourly series rows into daily rows and prunes old hourly rows.
+ * Only days the rollup flush marked in analytics.series_dirty_days are compacted. A day whose hourly
+ * rows are all still there is recomputed from them and overwritten, so a failed run can simply be
+ * repeated. Rows that arrive late for an already pruned day are added to its daily row instead.
+ */
+@Component
+@Slf4j
+public class StatsSeriesCompactor {
+
+    // Lets one node compact while the others skip the run
+    private static final long COMPACTION_LOCK_ID = 7_341_002L;
+
+    // Waits for flushes that already marked a day and holds off new ones until this run commits
+    private static final String LOCK_DIRTY_DAYS = "LOCK TABLE analytics.series_dirty_days IN EXCLUSIVE MODE";
+
+    private static final String CLAIM_DIRTY_DAYS =
+            "DELETE FROM analytics.series_dirty_days WHERE bucket_date < ? RETURNING bucket_date";
+
+    // Before the first run, hourly rows start at the oldest one still in the table
+    private static final String PRUNED_BEFORE =
+            "SELECT COALESCE((SELECT hourly_pruned_before FROM analytics.series_compaction WHERE series = ?), " +
+            "(SELECT CAST(MIN(bucket_start) AS DATE) FROM %s), ?)";
+
+    private static final String SAVE_PRUNED_BEFORE =
+            "INSERT INTO analytics.series_compaction (series, hourly_pruned_before) VALUES (?, ?) " +
+            "ON CONFLICT (series) DO UPDATE SET hourly_pruned_before = EXCLUDED.hourly_pruned_before";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int hourlyRetentionDays;
+
+    public StatsSeriesCompactor(JdbcTemplate jdbcTemplate,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${app.analytics.series.hourly-retention-days:7}") int hourlyRetentionDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.hourlyRetentionDays = hourlyRetentionDays;
+    }
+
+    @Scheduled(cron = "${app.analytics.series.compaction-cron:0 15 * * * *}", zone = "UTC")
+    public void compact() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        LocalDate retentionStart = today.minusDays(hourlyRetentionDays);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Boolean locked = jdbcTemplate.queryForObject(
+                    "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, COMPACTION_LOCK_ID);
+            if (!Boolean.TRUE.equals(locked)) {
+                log.debug("Series compaction already running on another node");
+                return;
+            }
+            jdbcTemplate.execute(LOCK_DIRTY_DAYS);
+            List<LocalDate> days = jdbcTemplate.queryForList(CLAIM_DIRTY_DAYS, LocalDate.class, today);
+            days.sort(null);
+            for (SeriesTable table : SeriesTable.values()) {
+                compact(table, days, today, retentionStart);
+            }
+        });
+    }
+
+    private void compact(SeriesTable table, List<LocalDate> days, LocalDate today, LocalDate retentionStart) {
+        LocalDate prunedBefore = jdbcTemplate.queryForObject(
+                String.format(PRUNED_BEFORE, table.hourlyTable()), LocalDate.class, table.name(), today);
+        // Never moves back, even if the retention grows: days before it only ever have late rows
+        LocalDate pruneBefore = retentionStart.isAfter(prunedBefore) ? retentionStart : prunedBefore;
+
+        int rows = 0;
+        for (LocalDate day : days) {
+            String merge = day.isBefore(prunedBefore) ? table.addMetricColumns() : table.overwriteMetricColumns();
+            rows += jdbcTemplate.update(
+                    "INSERT INTO " + table.dailyTable() + " (" + table.idColumn() + ", bucket_date, " +
+                    table.metricColumns() + ") " +
+                    "SELECT " + table.idColumn() + ", CAST(bucket_start AS DATE), " + table.summedMetricColumns() +
+                    " FROM " + table.hourlyTable() +
+                    " WHERE bucket_start >= ? AND bucket_start < ? GROUP BY 1, 2 " +
+                    "ON CONFLICT (" + table.idColumn() + ", bucket_date) DO UPDATE SET " + merge,
+                    day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+        }
+
+        int pruned = jdbcTemplate.update(
+                "DELETE FROM " + table.hourlyTable() + " WHERE bucket_start < ?", pruneBefore.atStartOfDay());
+        jdbcTemplate.update(SAVE_PRUNED_BEFORE, table.name(), pruneBefore);
+
+        log.info("Compacted {}: {} day(s), {} daily row(s) written, {} hourly row(s) pruned",
+                table, days.size(), rows, pruned);
+    }
+}
@@ -0,0 +1,77 @@
+package org.learn.watchwave.analytics.series;
+
+import lombok.RequiredArgsConstructor;
+import org.learn.watchwave.analytics.dto.response.SeriesPoint;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Range queries over the pre-aggregated series tables. A dashboard range reads at most a few
+ * hundred rows, however many views, likes or heartbeats went into them.
+ */
+@Component
+@RequiredArgsConstructor
+public class StatsSeriesReader {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Dates are inclusive and interpreted in UTC
+    public List<SeriesPoint> hourly(SeriesTable table, UUID id, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(
+                "SELECT bucket_start, " + table.metricColumns() + " FROM " + table.hourlyTable() +
+                " WHERE " + table.idColumn() + " = ? AND bucket_start >= ? AND bucket_start < ? ORDER BY bucket_start",
+                (rs, rowNum) -> toPoint(rs, table, rs.getObject("bucket_start", LocalDateTime.class)),
+                id, from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+    }
+
+    // Days that still have hourly rows are summed from them, since they may not be compacted yet
+    public List<SeriesPoint> daily(SeriesTable table, UUID id, LocalDate from, LocalDate to) {
+        Map<LocalDate, SeriesPoint> byDay = new TreeMap<>();
+
+        jdbcTemplate.query(
+                "SELECT bucket_date, " + table.metricColumns() + " FROM " + table.dailyTable() +
+                " WHERE " + table.idColumn() + " = ? AND bucket_date >= ? AND bucket_date <= ?",
+                rs -> {
+                    LocalDate day = rs.getObject("bucket_date", LocalDate.class);
+                    byDay.put(day, toPoint(rs, table, day.atStartOfDay()));
+                },
+                id, from, to);
+
+        jdbcTemplate.query(
+                "SELECT CAST(bucket_start AS DATE) AS bucket_date, " + table.summedMetricColumns() +
+                " FROM " + table.hourlyTable() +
+                " WHERE " + table.idColumn() + " = ? AND bucket_start >= ? AND bucket_start < ? GROUP BY 1",
+                rs -> {
+                    LocalDate day = rs.getObject("bucket_date", LocalDate.class);
+                    byDay.put(day, toPoint(rs, table, day.atStartOfDay()));
+                },
+                id, from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+
+        return new ArrayList<>(byDay.values());
+    }
+
+    private static SeriesPoint toPoint(ResultSet rs, SeriesTable table, LocalDateTime bucketStart) throws SQLException {
+        Instant start = bucketStart.toInstant(ZoneOffset.UTC);
+        return SeriesPoint.builder()
+                .bucketStart(start)
+                .views(rs.getLong("views"))
+                .likes(rs.getLong("likes"))
+                .dislikes(rs.getLong("dislikes"))
+                .watchSeconds(rs.getLong("watch_seconds"))
+                .subscribersGained(table.hasSubscribers() ? rs.getLong("subscribers_gained") : null)
+                .subscribersLost(table.hasSubscribers() ? rs.getLong("subscribers_lost") : null)
+                .build();
+    }
+}
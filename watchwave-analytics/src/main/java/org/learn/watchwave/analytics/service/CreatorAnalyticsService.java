@@ -0,0 +1,35 @@
+package org.learn.watchwave.analytics.service;
+
+import org.learn.watchwave.analytics.dto.response.CreatorStatsResponse;
+import org.learn.watchwave.analytics.dto.response.ExportRunResponse;
+import org.learn.watchwave.analytics.dto.response.RetentionResponse;
+import org.learn.watchwave.analytics.dto.response.RollupRebuildResponse;
+import org.learn.watchwave.analytics.dto.response.SeriesResponse;
+import org.learn.watchwave.analytics.dto.response.UniqueViewersResponse;
+import org.learn.watchwave.analytics.dto.response.VideoStatsListResponse;
+import org.learn.watchwave.analytics.dto.response.VideoStatsResponse;
+import org.learn.watchwave.analytics.enums.SeriesGranularity;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface CreatorAnalyticsService {
+
+    VideoStatsResponse getVideoStats(UUID videoId, UUID currentUserId, boolean isAdmin);
+    VideoStatsListResponse getCreatorVideoStats(UUID creatorId, Pageable pageable);
+    CreatorStatsResponse getCreatorSummary(UUID creatorId);
+
+    SeriesResponse getVideoSeries(UUID videoId, UUID currentUserId, boolean isAdmin,
+                                  LocalDate from, LocalDate to, SeriesGranularity granularity);
+    SeriesResponse getCreatorSeries(UUID creatorId, LocalDate from, LocalDate to, SeriesGranularity granularity);
+
+    UniqueViewersResponse getVideoUniqueViewers(UUID videoId, UUID currentUserId, boolean isAdmin,
+                                                LocalDate from, LocalDate to);
+    UniqueViewersResponse getCreatorUniqueViewers(UUID creatorId, LocalDate from, LocalDate to);
+
+    RetentionResponse getVideoRetention(UUID videoId, UUID currentUserId, boolean isAdmin);
+
+    RollupRebuildResponse rebuildVideoRollup();
+    ExportRunResponse runExport();
+}
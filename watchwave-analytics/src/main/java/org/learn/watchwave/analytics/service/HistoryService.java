@@ -0,0 +1,16 @@
+package org.learn.watchwave.analytics.service;
+
+import org.learn.watchwave.analytics.dto.request.HeartbeatRequest;
+import org.learn.watchwave.analytics.dto.response.ContinueWatchingResponse;
+import org.learn.watchwave.analytics.dto.response.ResumePositionResponse;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface HistoryService {
+
+    void recordHeartbeat(UUID userId, HeartbeatRequest request);
+
+    List<ContinueWatchingResponse> getContinueWatching(UUID userId, int limit);
+    ResumePositionResponse getResumePosition(UUID userId, UUID videoId);
+}
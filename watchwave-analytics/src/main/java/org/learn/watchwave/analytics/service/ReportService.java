@@ -0,0 +1,22 @@
+package org.learn.watchwave.analytics.service;
+
+import org.learn.watchwave.analytics.dto.request.ReportRequest;
+import org.learn.watchwave.analytics.dto.response.ReportResolutionResponse;
+import org.learn.watchwave.analytics.dto.response.ReportResponse;
+import org.learn.watchwave.analytics.dto.response.ReportSubmissionResponse;
+import org.learn.watchwave.analytics.dto.response.ReportedVideoResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ReportService {
+
+    ReportSubmissionResponse reportVideo(UUID reporterId, ReportRequest request);
+
+    // Moderation
+    List<ReportedVideoResponse> getModerationQueue(int limit);
+    Page<ReportResponse> getOpenReports(UUID videoId, Pageable pageable);
+    ReportResolutionResponse resolveReports(UUID videoId, UUID moderatorId);
+}
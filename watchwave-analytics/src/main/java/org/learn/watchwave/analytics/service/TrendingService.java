@@ -0,0 +1,11 @@
+package org.learn.watchwave.analytics.service;
+
+import org.learn.watchwave.analytics.dto.response.TrendingCreatorResponse;
+import org.learn.watchwave.analytics.dto.response.TrendingResponse;
+import org.learn.watchwave.analytics.dto.response.TrendingVideoResponse;
+
+public interface TrendingService {
+
+    TrendingResponse<TrendingVideoResponse> getTrendingVideos(int limit, Integer windowMinutes);
+    TrendingResponse<TrendingCreatorResponse> getTrendingCreators(int limit, Integer windowMinutes);
+}
@@ -0,0 +1,211 @@
+package org.learn.watchwave.analytics.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.learn.watchwave.analytics.dto.response.CreatorStatsResponse;
+import org.learn.watchwave.analytics.dto.response.ExportRunResponse;
+import org.learn.watchwave.analytics.dto.response.RetentionPoint;
+import org.learn.watchwave.analytics.dto.response.RetentionResponse;
+import org.learn.watchwave.analytics.dto.response.RollupRebuildResponse;
+import org.learn.watchwave.analytics.dto.response.SeriesPoint;
+import org.learn.watchwave.analytics.dto.response.SeriesResponse;
+import org.learn.watchwave.analytics.dto.response.UniqueViewersResponse;
+import org.learn.watchwave.analytics.dto.response.VideoStatsListResponse;
+import org.learn.watchwave.analytics.dto.response.VideoStatsResponse;
+import org.learn.watchwave.analytics.enums.SeriesGranularity;
+import org.learn.watchwave.analytics.enums.SketchScope;
+import org.learn.watchwave.analytics.export.AnalyticsExporter;
+import org.learn.watchwave.analytics.model.entity.VideoRetention;
+import org.learn.watchwave.analytics.model.projection.CreatorStatsView;
+import org.learn.watchwave.analytics.repository.VideoAnalyticsRepository;
+import org.learn.watchwave.analytics.repository.VideoRetentionRepository;
+import org.learn.watchwave.analytics.retention.RetentionHistogram;
+import org.learn.watchwave.analytics.retention.RetentionTracker;
+import org.learn.watchwave.analytics.rollup.VideoRollupFlusher;
+import org.learn.watchwave.analytics.series.SeriesTable;
+import org.learn.watchwave.analytics.series.StatsSeriesReader;
+import org.learn.watchwave.analytics.sketch.HyperLogLog;
+import org.learn.watchwave.analytics.sketch.UniqueViewerSketches;
+import org.learn.watchwave.analytics.service.CreatorAnalyticsService;
+import org.learn.watchwave.videos.dto.response.VideoResponse;
+import org.learn.watchwave.videos.service.VideoService;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class CreatorAnalyticsServiceImpl implements CreatorAnalyticsService {
+
+    private static final int MAX_HOURLY_RANGE_DAYS = 7;
+    private static final int MAX_DAILY_RANGE_DAYS = 366;
+
+    private final VideoAnalyticsRepository videoAnalyticsRepository;
+    private final VideoRollupFlusher rollupFlusher;
+    private final VideoService videoService;
+    private final StatsSeriesReader seriesReader;
+    private final UniqueViewerSketches uniqueViewerSketches;
+    private final VideoRetentionRepository videoRetentionRepository;
+    private final RetentionTracker retentionTracker;
+    private final AnalyticsExporter analyticsExporter;
+
+    @Override
+    @Transactional(readOnly = true)
+    public VideoStatsResponse getVideoStats(UUID videoId, UUID currentUserId, boolean isAdmin) {
+        checkVideoAccess(videoId, currentUserId, isAdmin);
+
+        return videoAnalyticsRepository.findStatsByVideoId(videoId)
+                .map(VideoStatsResponse::from)
+                .orElseThrow(() -> new RuntimeException("Video not found: " + videoId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VideoStatsListResponse getCreatorVideoStats(UUID creatorId, Pageable pageable) {
+        return VideoStatsListResponse.from(
+                videoAnalyticsRepository.findStatsByUploaderId(creatorId, pageable).map(VideoStatsResponse::from));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CreatorStatsResponse getCreatorSummary(UUID creatorId) {
+        CreatorStatsView totals = videoAnalyticsRepository.findCreatorTotals(creatorId);
+        long views = totals.getTotalViews();
+
+        return CreatorStatsResponse.builder()
+                .creatorId(creatorId)
+                .videoCount(totals.getVideoCount())
+                .totalViews(views)
+                .totalLikes(totals.getTotalLikes())
+                .totalDislikes(totals.getTotalDislikes())
+                .totalWatchSeconds(totals.getTotalWatchSeconds())
+                .averageWatchTimeSeconds(views == 0 ? 0 : totals.getTotalWatchSeconds() / views)
+                .build();
+    }
+
+    @Override
+    public SeriesResponse getVideoSeries(UUID videoId, UUID currentUserId, boolean isAdmin,
+                                         LocalDate from, LocalDate to, SeriesGranularity granularity) {
+        checkVideoAccess(videoId, currentUserId, isAdmin);
+        return buildSeries(SeriesTable.VIDEO, videoId, from, to, granularity);
+    }
+
+    @Override
+    public SeriesResponse getCreatorSeries(UUID creatorId, LocalDate from, LocalDate to,
+                                           SeriesGranularity granularity) {
+        return buildSeries(SeriesTable.CREATOR, creatorId, from, to, granularity);
+    }
+
+    @Override
+    public UniqueViewersResponse getVideoUniqueViewers(UUID videoId, UUID currentUserId, boolean isAdmin,
+                                                       LocalDate from, LocalDate to) {
+        checkVideoAccess(videoId, currentUserId, isAdmin);
+        return buildUniqueViewers(SketchScope.VIDEO, videoId, from, to);
+    }
+
+    @Override
+    public UniqueViewersResponse getCreatorUniqueViewers(UUID creatorId, LocalDate from, LocalDate to) {
+        return buildUniqueViewers(SketchScope.CREATOR, creatorId, from, to);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RetentionResponse getVideoRetention(UUID videoId, UUID currentUserId, boolean isAdmin) {
+        VideoResponse video = checkVideoAccess(videoId, currentUserId, isAdmin);
+
+        // One 800-byte row plus this node's unflushed counts; raw history is never scanned
+        long[] plays = RetentionHistogram.unpack(videoRetentionRepository.findById(videoId)
+                .map(VideoRetention::getBuckets)
+                .orElse(null));
+        long[] pending = retentionTracker.pendingCounts(videoId);
+        for (int i = 0; i < plays.length; i++) {
+            plays[i] += pending[i];
+        }
+
+        int duration = video.getVideoDurationSeconds() != null ? video.getVideoDurationSeconds() : 0;
+        List<RetentionPoint> points = new ArrayList<>(RetentionHistogram.BUCKETS);
+        for (int i = 0; i < plays.length; i++) {
+            points.add(RetentionPoint.builder()
+                    .startPercent(i)
+                    .startSeconds((int) ((long) duration * i / RetentionHistogram.BUCKETS))
+                    .plays(plays[i])
+                    .retention(plays[0] == 0 ? 0 : (double) plays[i] / plays[0])
+                    .build());
+        }
+
+        return RetentionResponse.builder()
+                .videoId(videoId)
+                .durationSeconds(duration)
+                .points(points)
+                .build();
+    }
+
+    @Override
+    public RollupRebuildResponse rebuildVideoRollup() {
+        long start = System.currentTimeMillis();
+        int rebuilt = rollupFlusher.rebuildAll();
+
+        return RollupRebuildResponse.builder()
+                .videosRebuilt(rebuilt)
+                .durationMillis(System.currentTimeMillis() - start)
+                .build();
+    }
+
+    @Override
+    public ExportRunResponse runExport() {
+        return analyticsExporter.exportAll();
+    }
+
+    private VideoResponse checkVideoAccess(UUID videoId, UUID currentUserId, boolean isAdmin) {
+        VideoResponse video = videoService.getVideoById(videoId);
+        if (!isAdmin && !currentUserId.equals(video.getUploaderId())) {
+            throw new RuntimeException("Unauthorized: You can only view analytics for your own videos");
+        }
+        return video;
+    }
+
+    private SeriesResponse buildSeries(SeriesTable table, UUID id, LocalDate from, LocalDate to,
+                                       SeriesGranularity granularity) {
+        int maxDays = granularity == SeriesGranularity.HOUR ? MAX_HOURLY_RANGE_DAYS : MAX_DAILY_RANGE_DAYS;
+        checkRange(from, to, maxDays, granularity + " granularity");
+
+        List<SeriesPoint> points = granularity == SeriesGranularity.HOUR
+                ? seriesReader.hourly(table, id, from, to)
+                : seriesReader.daily(table, id, from, to);
+
+        return SeriesResponse.builder()
+                .id(id)
+                .granularity(granularity)
+                .from(from)
+                .to(to)
+                .points(points)
+                .build();
+    }
+
+    private UniqueViewersResponse buildUniqueViewers(SketchScope scope, UUID id, LocalDate from, LocalDate to) {
+        checkRange(from, to, MAX_DAILY_RANGE_DAYS, "unique viewers");
+
+        return UniqueViewersResponse.builder()
+                .id(id)
+                .from(from)
+                .to(to)
+                .estimate(uniqueViewerSketches.estimate(scope, id, from, to))
+                .standardError(HyperLogLog.STANDARD_ERROR)
+                .build();
+    }
+
+    private void checkRange(LocalDate from, LocalDate to, int maxDays, String what) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("'to' must not be before 'from'");
+        }
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        if (days > maxDays) {
+            throw new IllegalArgumentException("Range too large for " + what + " (max " + maxDays + " days)");
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package org.learn.watchwave.analytics.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.learn.watchwave.analytics.dto.request.HeartbeatRequest;
+import org.learn.watchwave.analytics.dto.response.ContinueWatchingResponse;
+import org.learn.watchwave.analytics.dto.response.ResumePositionResponse;
+import org.learn.watchwave.analytics.history.HistoryBuffer;
+import org.learn.watchwave.analytics.history.PendingWatch;
+import org.learn.watchwave.analytics.history.ResumeEntry;
+import org.learn.watchwave.analytics.history.ResumePositionStore;
+import org.learn.watchwave.analytics.history.WatchKey;
+import org.learn.watchwave.analytics.retention.RetentionTracker;
+import org.learn.watchwave.analytics.service.HistoryService;
+import org.learn.watchwave.videos.dto.response.VideoResponse;
+import org.learn.watchwave.videos.service.VideoService;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HistoryServiceImpl implements HistoryService {
+
+    private static final int MAX_CONTINUE_WATCHING = 50;
+    private static final int FINISHED_PERCENT = 95;
+
+    private final HistoryBuffer historyBuffer;
+    private final ResumePositionStore resumePositionStore;
+    private final RetentionTracker retentionTracker;
+    private final VideoService videoService;
+
+    @Override
+    public void recordHeartbeat(UUID userId, HeartbeatRequest request) {
+        Instant now = Instant.now();
+        WatchKey key = new WatchKey(userId, request.getVideoId());
+        PendingWatch beat = new PendingWatch(request.getWatchedSeconds(), request.getPositionSeconds(), now);
+
+        resumePositionStore.update(userId, new ResumeEntry(request.getVideoId(), request.getPositionSeconds(), now));
+        retentionTracker.record(request.getVideoId(), request.getPositionSeconds(), request.getWatchedSeconds());
+        if (!historyBuffer.record(key, beat)) {
+            log.warn("History buffer full, dropped heartbeat for user: {} video: {}", userId, request.getVideoId());
+        }
+    }
+
+    @Override
+    public List<ContinueWatchingResponse> getContinueWatching(UUID userId, int limit) {
+        List<ResumeEntry> entries = resumePositionStore.findRecent(userId).stream()
+                .filter(entry -> entry.positionSeconds() > 0)
+                .toList();
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+
+        // Deleted and private videos are left out by the batch lookup
+        Map<UUID, VideoResponse> videos = videoService.getVideosByIds(
+                        entries.stream().map(ResumeEntry::videoId).toList()).stream()
+                .collect(Collectors.toMap(VideoResponse::getId, Function.identity()));
+
+        int max = Math.min(Math.max(limit, 1), MAX_CONTINUE_WATCHING);
+        List<ContinueWatchingResponse> result = new ArrayList<>();
+        for (ResumeEntry entry : entries) {
+            VideoResponse video = videos.get(entry.videoId());
+            if (video == null) {
+                continue;
+            }
+
+            Integer percent = watchPercent(entry.positionSeconds(), video.getVideoDurationSeconds());
+            if (percent != null && percent >= FINISHED_PERCENT) {
+                continue;
+            }
+
+            result.add(ContinueWatchingResponse.builder()
+                    .video(video)
+                    .positionSeconds(entry.positionSeconds())
+                    .watchPercent(percent)
+                    .lastWatchedAt(entry.updatedAt())
+                    .build());
+            if (result.size() == max) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public ResumePositionResponse getResumePosition(UUID userId, UUID videoId) {
+        return ResumePositionResponse.builder()
+                .videoId(videoId)
+                .positionSeconds(resumePositionStore.findPosition(userId, videoId).orElse(0))
+                .build();
+    }
+
+    private Integer watchPercent(int positionSeconds, Integer durationSeconds) {
+        if (durationSeconds == null || durationSeconds <= 0) {
+            return null;
+        }
+        return Math.min(100, positionSeconds * 100 / durationSeconds);
+    }
+}
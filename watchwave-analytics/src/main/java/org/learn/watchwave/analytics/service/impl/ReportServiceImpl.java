@@ -0,0 +1,87 @@
+package org.learn.watchwave.analytics.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.learn.watchwave.analytics.dto.request.ReportRequest;
+import org.learn.watchwave.analytics.dto.response.ReportResolutionResponse;
+import org.learn.watchwave.analytics.dto.response.ReportResponse;
+import org.learn.watchwave.analytics.dto.response.ReportSubmissionResponse;
+import org.learn.watchwave.analytics.dto.response.ReportedVideoResponse;
+import org.learn.watchwave.analytics.event.VideoReportedEvent;
+import org.learn.watchwave.analytics.event.VideoReportsResolvedEvent;
+import org.learn.watchwave.analytics.report.ReportQueue;
+import org.learn.watchwave.analytics.repository.ReportRepository;
+import org.learn.watchwave.analytics.service.ReportService;
+import org.learn.watchwave.videos.dto.response.VideoResponse;
+import org.learn.watchwave.videos.service.VideoService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class ReportServiceImpl implements ReportService {
+
+    private static final int MAX_QUEUE_LIMIT = 100;
+
+    private final ReportRepository reportRepository;
+    private final ReportQueue reportQueue;
+    private final VideoService videoService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional
+    public ReportSubmissionResponse reportVideo(UUID reporterId, ReportRequest request) {
+        // Validate video exists and is not deleted
+        VideoResponse video = videoService.getVideoById(request.getVideoId());
+        if (reporterId.equals(video.getUploaderId())) {
+            throw new IllegalArgumentException("You cannot report your own video");
+        }
+
+        int inserted = reportRepository.insertIfAbsent(
+                UUID.randomUUID(), reporterId, request.getVideoId(), request.getReason().trim());
+        if (inserted > 0) {
+            // The queue is updated once the report commits
+            eventPublisher.publishEvent(new VideoReportedEvent(request.getVideoId(), Instant.now()));
+        }
+
+        return ReportSubmissionResponse.builder()
+                .videoId(request.getVideoId())
+                .alreadyReported(inserted == 0)
+                .build();
+    }
+
+    @Override
+    public List<ReportedVideoResponse> getModerationQueue(int limit) {
+        if (limit < 1 || limit > MAX_QUEUE_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_QUEUE_LIMIT);
+        }
+        return reportQueue.top(limit).stream()
+                .map(ReportedVideoResponse::from)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ReportResponse> getOpenReports(UUID videoId, Pageable pageable) {
+        return reportRepository.findByVideoIdAndResolvedFalseOrderByCreatedAtDesc(videoId, pageable)
+                .map(ReportResponse::from);
+    }
+
+    @Override
+    @Transactional
+    public ReportResolutionResponse resolveReports(UUID videoId, UUID moderatorId) {
+        int resolved = reportRepository.resolveOpenReports(videoId, moderatorId, Instant.now());
+        eventPublisher.publishEvent(new VideoReportsResolvedEvent(videoId));
+
+        return ReportResolutionResponse.builder()
+                .videoId(videoId)
+                .reportsResolved(resolved)
+                .build();
+    }
+}
@@ -0,0 +1,105 @@
+package org.learn.watchwave.analytics.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.learn.watchwave.analytics.dto.response.TrendingCreatorResponse;
+import org.learn.watchwave.analytics.dto.response.TrendingResponse;
+import org.learn.watchwave.analytics.dto.response.TrendingVideoResponse;
+import org.learn.watchwave.analytics.service.TrendingService;
+import org.learn.watchwave.analytics.trending.TrendingEntry;
+import org.learn.watchwave.analytics.trending.TrendingTracker;
+import org.learn.watchwave.auth.model.entity.User;
+import org.learn.watchwave.auth.repository.UserRepository;
+import org.learn.watchwave.videos.dto.response.VideoResponse;
+import org.learn.watchwave.videos.enums.VideoVisibility;
+import org.learn.watchwave.videos.service.VideoService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class TrendingServiceImpl implements TrendingService {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final TrendingTracker trendingTracker;
+    private final VideoService videoService;
+    private final UserRepository userRepository;
+
+    @Override
+    public TrendingResponse<TrendingVideoResponse> getTrendingVideos(int limit, Integer windowMinutes) {
+        int max = resolveLimit(limit);
+        int minutes = resolveWindow(windowMinutes);
+        // Ask for extra candidates so private, unlisted or deleted videos don't leave the list short
+        List<TrendingEntry> ranking = trendingTracker.topVideos(max * 2, minutes);
+
+        Map<UUID, VideoResponse> videos = videoService.getVideosByIds(ranking.stream().map(TrendingEntry::id).toList())
+                .stream()
+                .collect(Collectors.toMap(VideoResponse::getId, Function.identity()));
+
+        List<TrendingVideoResponse> items = new ArrayList<>();
+        for (TrendingEntry entry : ranking) {
+            VideoResponse video = videos.get(entry.id());
+            // Unlisted videos are reachable by link only, so only public ones are listed
+            if (video != null && video.getVisibility() == VideoVisibility.PUBLIC && items.size() < max) {
+                items.add(TrendingVideoResponse.builder().video(video).score(entry.score()).build());
+            }
+        }
+        return build(minutes, items);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TrendingResponse<TrendingCreatorResponse> getTrendingCreators(int limit, Integer windowMinutes) {
+        int minutes = resolveWindow(windowMinutes);
+        List<TrendingEntry> ranking = trendingTracker.topCreators(resolveLimit(limit), minutes);
+
+        Map<UUID, User> users = userRepository.findAllById(ranking.stream().map(TrendingEntry::id).toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        // Blocked or deleted creators are left out
+        List<TrendingCreatorResponse> items = ranking.stream()
+                .filter(entry -> users.containsKey(entry.id()) && !users.get(entry.id()).isBlocked())
+                .map(entry -> TrendingCreatorResponse.builder()
+                        .creatorId(entry.id())
+                        .username(users.get(entry.id()).getUsername())
+                        .score(entry.score())
+                        .build())
+                .toList();
+        return build(minutes, items);
+    }
+
+    private int resolveLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        return limit;
+    }
+
+    private int resolveWindow(Integer windowMinutes) {
+        int max = trendingTracker.windowMinutes();
+        if (windowMinutes == null) {
+            return max;
+        }
+        if (windowMinutes < 1 || windowMinutes > max) {
+            throw new IllegalArgumentException("Window must be between 1 and " + max + " minutes");
+        }
+        return windowMinutes;
+    }
+
+    private static <T> TrendingResponse<T> build(int minutes, List<T> items) {
+        return TrendingResponse.<T>builder()
+                .windowMinutes(minutes)
+                .generatedAt(Instant.now())
+                .items(items)
+                .build();
+    }
+}
@@ -0,0 +1,121 @@
+package org.learn.watchwave.analytics.sketch;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * HyperLogLog cardinality estimator with 2^12 registers (about 1.6% standard error).
+ * Registers are kept one per byte in memory and packed to 6 bits each (3 KB) when persisted.
+ * Sketches of the same precision merge losslessly by taking the per-register maximum.
+ */
+public class HyperLogLog {
+
+    public static final int PRECISION = 12;
+    public static final int REGISTER_COUNT = 1 << PRECISION;
+    public static final int PACKED_BYTES = REGISTER_COUNT * 6 / 8;
+    public static final double STANDARD_ERROR = 1.04 / Math.sqrt(REGISTER_COUNT);
+
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTER_COUNT);
+    private static final int MAX_RANK = 64 - PRECISION + 1;
+
+    private final byte[] registers = new byte[REGISTER_COUNT];
+
+    public void offer(String value) {
+        offerHash(hash(value));
+    }
+
+    public void offerHash(long hash) {
+        int index = (int) (hash >>> (64 - PRECISION));
+        int rank = Math.min(Long.numberOfLeadingZeros(hash << PRECISION) + 1, MAX_RANK);
+
+        // Registers only grow, so a stale read that is already high enough is safe to skip on
+        if (registers[index] >= rank) {
+            return;
+        }
+        synchronized (this) {
+            if (registers[index] < rank) {
+                registers[index] = (byte) rank;
+            }
+        }
+    }
+
+    public void merge(HyperLogLog other) {
+        // Copy first so two sketches merging into each other never hold both locks
+        byte[] theirs = other.snapshot();
+        synchronized (this) {
+            for (int i = 0; i < REGISTER_COUNT; i++) {
+                if (theirs[i] > registers[i]) {
+                    registers[i] = theirs[i];
+                }
+            }
+        }
+    }
+
+    public long estimate() {
+        byte[] current = snapshot();
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : current) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+
+        double estimate = ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum;
+        // Linear counting is more accurate while many registers are still empty
+        if (estimate <= 2.5 * REGISTER_COUNT && zeros > 0) {
+            estimate = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public byte[] toBytes() {
+        byte[] current = snapshot();
+        byte[] packed = new byte[PACKED_BYTES];
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            int bit = i * 6;
+            int value = current[i] << 2; // 6 bits left-aligned in a byte
+            packed[bit >>> 3] |= (byte) (value >>> (bit & 7));
+            if ((bit & 7) > 2) {
+                packed[(bit >>> 3) + 1] |= (byte) (value << (8 - (bit & 7)));
+            }
+        }
+        return packed;
+    }
+
+    public static HyperLogLog fromBytes(byte[] packed) {
+        if (packed.length != PACKED_BYTES) {
+            throw new IllegalArgumentException("Expected " + PACKED_BYTES + " bytes, got " + packed.length);
+        }
+
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            int bit = i * 6;
+            int word = (packed[bit >>> 3] & 0xFF) << 8;
+            if ((bit >>> 3) + 1 < PACKED_BYTES) {
+                word |= packed[(bit >>> 3) + 1] & 0xFF;
+            }
+            sketch.registers[i] = (byte) ((word >>> (10 - (bit & 7))) & 0x3F);
+        }
+        return sketch;
+    }
+
+    // 64-bit FNV-1a over UTF-8, finished with the MurmurHash3 mixer for well-spread high bits
+    public static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private synchronized byte[] snapshot() {
+        return registers.clone();
+    }
+}
@@ -0,0 +1,19 @@
+package org.learn.watchwave.analytics.sketch;
+
+import org.learn.watchwave.analytics.enums.SketchScope;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.UUID;
+
+public record SketchKey(SketchScope scope, UUID subjectId, LocalDate day) implements Comparable<SketchKey> {
+
+    private static final Comparator<SketchKey> ORDER = Comparator.comparing(SketchKey::scope)
+            .thenComparing(SketchKey::subjectId)
+            .thenComparing(SketchKey::day);
+
+    @Override
+    public int compareTo(SketchKey other) {
+        return ORDER.compare(this, other);
+    }
+}
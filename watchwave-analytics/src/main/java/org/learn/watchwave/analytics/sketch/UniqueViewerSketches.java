@@ -0,0 +1,201 @@
+package org.learn.watchwave.analytics.sketch;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.learn.watchwave.analytics.enums.SketchScope;
+import org.learn.watchwave.common.event.VideoPlaybackStartedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Unique viewers per video and per creator per UTC day, as HyperLogLog sketches.
+ * Each node persists its own row per sketch, so nodes never overwrite each other;
+ * queries merge the rows of all nodes and days in range.
+ */
+@Component
+@Slf4j
+public class UniqueViewerSketches {
+
+    private static final int BATCH_SIZE = 200;
+
+    private static final String UPSERT_SKETCH =
+            "INSERT INTO analytics.viewer_sketches (scope, subject_id, bucket_date, node_id, registers, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (scope, subject_id, bucket_date, node_id) DO UPDATE SET " +
+            "registers = EXCLUDED.registers, updated_at = EXCLUDED.updated_at";
+
+    private static final String FIND_OWN_SKETCHES =
+            "SELECT subject_id, registers FROM analytics.viewer_sketches " +
+            "WHERE scope = ? AND bucket_date = ? AND node_id = ? AND subject_id = ANY(?)";
+
+    private static final String FIND_RANGE =
+            "SELECT registers FROM analytics.viewer_sketches " +
+            "WHERE scope = ? AND subject_id = ? AND bucket_date >= ? AND bucket_date <= ?";
+
+    private final ConcurrentHashMap<SketchKey, SketchEntry> sketches = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId;
+
+    // Entries dropped on the last flush; checked once more in case a viewer was offered after removal
+    private Map<SketchKey, SketchEntry> retired = new HashMap<>();
+
+    public UniqueViewerSketches(JdbcTemplate jdbcTemplate,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${app.analytics.node-id:}") String nodeId) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.nodeId = nodeId.isBlank() ? localHostName() : nodeId;
+    }
+
+    @EventListener
+    public void onPlaybackStarted(VideoPlaybackStartedEvent event) {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        long hash = HyperLogLog.hash(event.viewerKey());
+
+        offer(new SketchKey(SketchScope.VIDEO, event.videoId(), today), hash);
+        if (event.creatorId() != null) {
+            offer(new SketchKey(SketchScope.CREATOR, event.creatorId(), today), hash);
+        }
+    }
+
+    // Merges persisted sketches of every node with this node's unflushed state
+    public long estimate(SketchScope scope, UUID subjectId, LocalDate from, LocalDate to) {
+        HyperLogLog merged = new HyperLogLog();
+        jdbcTemplate.query(FIND_RANGE,
+                rs -> {
+                    merged.merge(HyperLogLog.fromBytes(rs.getBytes("registers")));
+                },
+                scope.name(), subjectId, from, to);
+
+        sketches.forEach((key, entry) -> {
+            if (key.scope() == scope && key.subjectId().equals(subjectId)
+                    && !key.day().isBefore(from) && !key.day().isAfter(to)) {
+                merged.merge(entry.sketch);
+            }
+        });
+        return merged.estimate();
+    }
+
+    @Scheduled(fixedDelayString = "${app.analytics.uniques.flush-interval-ms:60000}")
+    public synchronized void flush() {
+        Map<SketchKey, SketchEntry> dirty = new HashMap<>();
+        retired.forEach((key, entry) -> {
+            if (entry.dirty) {
+                dirty.put(key, entry);
+            }
+        });
+        List<SketchKey> idle = new ArrayList<>();
+        sketches.forEach((key, entry) -> {
+            if (entry.dirty) {
+                dirty.put(key, entry);
+            } else {
+                idle.add(key);
+            }
+        });
+        if (!dirty.isEmpty()) {
+            write(dirty);
+        }
+
+        // Idle sketches are already persisted; drop them and reload from the database on next use
+        Map<SketchKey, SketchEntry> nowRetired = new HashMap<>();
+        for (SketchKey key : idle) {
+            SketchEntry entry = sketches.get(key);
+            if (entry != null && !entry.dirty && sketches.remove(key, entry)) {
+                nowRetired.put(key, entry);
+            }
+        }
+        retired = nowRetired;
+    }
+
+    private void write(Map<SketchKey, SketchEntry> dirty) {
+        dirty.values().forEach(entry -> entry.dirty = false);
+        try {
+            hydrate(dirty);
+
+            List<Map.Entry<SketchKey, SketchEntry>> rows = new ArrayList<>(dirty.entrySet());
+            rows.sort(Map.Entry.comparingByKey());
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(UPSERT_SKETCH, rows, BATCH_SIZE, (ps, row) -> {
+                        SketchKey key = row.getKey();
+                        ps.setString(1, key.scope().name());
+                        ps.setObject(2, key.subjectId());
+                        ps.setObject(3, key.day());
+                        ps.setString(4, nodeId);
+                        ps.setBytes(5, row.getValue().sketch.toBytes());
+                    }));
+            log.debug("Persisted {} unique viewer sketch(es)", rows.size());
+        } catch (Exception e) {
+            dirty.values().forEach(entry -> entry.dirty = true);
+            log.error("Failed to persist {} unique viewer sketch(es), will retry", dirty.size(), e);
+        }
+    }
+
+    // A sketch created since startup starts empty; fold in this node's persisted row before overwriting it
+    private void hydrate(Map<SketchKey, SketchEntry> dirty) {
+        Map<SketchKey, SketchEntry> cold = dirty.entrySet().stream()
+                .filter(e -> !e.getValue().hydrated)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+        Map<SketchScope, Map<LocalDate, List<UUID>>> groups = cold.keySet().stream()
+                .collect(Collectors.groupingBy(SketchKey::scope,
+                        Collectors.groupingBy(SketchKey::day,
+                                Collectors.mapping(SketchKey::subjectId, Collectors.toList()))));
+
+        groups.forEach((scope, byDay) -> byDay.forEach((day, subjectIds) ->
+                jdbcTemplate.query(FIND_OWN_SKETCHES,
+                        ps -> {
+                            ps.setString(1, scope.name());
+                            ps.setObject(2, day);
+                            ps.setString(3, nodeId);
+                            ps.setArray(4, ps.getConnection().createArrayOf("uuid", subjectIds.toArray()));
+                        },
+                        rs -> {
+                            SketchKey key = new SketchKey(scope, rs.getObject("subject_id", UUID.class), day);
+                            cold.get(key).sketch.merge(HyperLogLog.fromBytes(rs.getBytes("registers")));
+                        })));
+
+        cold.values().forEach(entry -> entry.hydrated = true);
+    }
+
+    private void offer(SketchKey key, long hash) {
+        SketchEntry entry = sketches.computeIfAbsent(key, k -> new SketchEntry());
+        entry.sketch.offerHash(hash);
+        entry.dirty = true;
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private static String localHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return UUID.randomUUID().toString();
+        }
+    }
+
+    private static class SketchEntry {
+        private final HyperLogLog sketch = new HyperLogLog();
+        private volatile boolean dirty;
+        private volatile boolean hydrated;
+    }
+}
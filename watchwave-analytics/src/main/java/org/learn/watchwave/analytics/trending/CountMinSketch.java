@@ -0,0 +1,71 @@
+package org.learn.watchwave.analytics.trending;
+
+import java.util.UUID;
+
+/**
+ * Count-Min Sketch over UUID keys with conservative update.
+ * Estimates never undercount; they overcount by at most about total / width with high probability.
+ * Not thread-safe; callers synchronize.
+ */
+class CountMinSketch {
+
+    private final int depth;
+    private final int mask;
+    private final long[][] counters;
+
+    CountMinSketch(int width, int depth) {
+        if (Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("Sketch width must be a power of two: " + width);
+        }
+        this.depth = depth;
+        this.mask = width - 1;
+        this.counters = new long[depth][width];
+    }
+
+    // Adds weight and returns the new estimate for the key
+    long add(UUID key, long weight) {
+        int[] slots = slots(key);
+        long estimate = estimate(slots) + weight;
+
+        // Conservative update: only raise counters that would otherwise be below the new estimate
+        for (int row = 0; row < depth; row++) {
+            if (counters[row][slots[row]] < estimate) {
+                counters[row][slots[row]] = estimate;
+            }
+        }
+        return estimate;
+    }
+
+    long estimate(UUID key) {
+        return estimate(slots(key));
+    }
+
+    private long estimate(int[] slots) {
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters[row][slots[row]]);
+        }
+        return min;
+    }
+
+    // Double hashing: row i uses h1 + i * h2
+    private int[] slots(UUID key) {
+        long h1 = mix(key.getMostSignificantBits() ^ Long.rotateLeft(key.getLeastSignificantBits(), 32));
+        long h2 = mix(h1 ^ key.getLeastSignificantBits()) | 1;
+
+        int[] slots = new int[depth];
+        for (int row = 0; row < depth; row++) {
+            slots[row] = (int) ((h1 + row * h2) >>> 32) & mask;
+        }
+        return slots;
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
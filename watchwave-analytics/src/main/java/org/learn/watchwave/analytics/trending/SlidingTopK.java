@@ -0,0 +1,111 @@
+package org.learn.watchwave.analytics.trending;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Heavy hitters over the last few minutes, kept as a ring of one-minute slices.
+ * Each slice has a Count-Min Sketch for counts and a Space-Saving summary for candidate keys,
+ * so memory is fixed no matter how many distinct keys are seen. Expired slices are replaced
+ * in place rather than decremented.
+ */
+class SlidingTopK {
+
+    private static final long SLICE_MILLIS = 60_000;
+
+    private final AtomicReferenceArray<Slice> slices;
+    private final int sketchWidth;
+    private final int sketchDepth;
+    private final int capacity;
+
+    SlidingTopK(int windowMinutes, int sketchWidth, int sketchDepth, int capacity) {
+        this.slices = new AtomicReferenceArray<>(windowMinutes);
+        this.sketchWidth = sketchWidth;
+        this.sketchDepth = sketchDepth;
+        this.capacity = capacity;
+    }
+
+    int windowMinutes() {
+        return slices.length();
+    }
+
+    void add(UUID key, long weight) {
+        currentSlice(System.currentTimeMillis() / SLICE_MILLIS).add(key, weight);
+    }
+
+    // Scores sum each candidate's estimate across the live slices of the last {@code minutes} minutes
+    List<TrendingEntry> top(int limit, int minutes) {
+        long now = System.currentTimeMillis() / SLICE_MILLIS;
+        List<Slice> live = new ArrayList<>();
+        for (int i = 0; i < slices.length(); i++) {
+            Slice slice = slices.get(i);
+            if (slice != null && slice.minute > now - minutes && slice.minute <= now) {
+                live.add(slice);
+            }
+        }
+
+        Set<UUID> candidates = new HashSet<>();
+        live.forEach(slice -> candidates.addAll(slice.keys()));
+
+        Map<UUID, Long> scores = new HashMap<>();
+        for (Slice slice : live) {
+            slice.estimateAll(candidates, scores);
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<UUID, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .map(e -> new TrendingEntry(e.getKey(), e.getValue()))
+                .toList();
+    }
+
+    private Slice currentSlice(long minute) {
+        int index = (int) (minute % slices.length());
+        while (true) {
+            Slice slice = slices.get(index);
+            if (slice != null && slice.minute >= minute) {
+                return slice;
+            }
+            Slice fresh = new Slice(minute, sketchWidth, sketchDepth, capacity);
+            if (slices.compareAndSet(index, slice, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private static final class Slice {
+        private final long minute;
+        private final CountMinSketch sketch;
+        private final SpaceSaving summary;
+
+        private Slice(long minute, int sketchWidth, int sketchDepth, int capacity) {
+            this.minute = minute;
+            this.sketch = new CountMinSketch(sketchWidth, sketchDepth);
+            this.summary = new SpaceSaving(capacity);
+        }
+
+        private synchronized void add(UUID key, long weight) {
+            summary.offer(key, weight, sketch.add(key, weight));
+        }
+
+        private synchronized List<UUID> keys() {
+            return summary.keys();
+        }
+
+        private synchronized void estimateAll(Set<UUID> keys, Map<UUID, Long> scores) {
+            for (UUID key : keys) {
+                long estimate = sketch.estimate(key);
+                if (estimate > 0) {
+                    scores.merge(key, estimate, Long::sum);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.learn.watchwave.analytics.trending;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Space-Saving summary of the heaviest keys, holding at most {@code capacity} counters.
+ * When full, a new key takes over the smallest counter. The Count-Min estimate caps its starting
+ * count, so one-off keys don't push out keys that are known to be heavier.
+ * Not thread-safe; callers synchronize.
+ */
+class SpaceSaving {
+
+    private record Counter(UUID key, long count) {
+    }
+
+    private static final Comparator<Counter> BY_COUNT = Comparator.comparingLong(Counter::count)
+            .thenComparing(Counter::key);
+
+    private final int capacity;
+    private final Map<UUID, Counter> counters = new HashMap<>();
+    private final TreeSet<Counter> byCount = new TreeSet<>(BY_COUNT);
+
+    SpaceSaving(int capacity) {
+        this.capacity = capacity;
+    }
+
+    void offer(UUID key, long weight, long sketchEstimate) {
+        Counter existing = counters.get(key);
+        if (existing != null) {
+            replace(existing, new Counter(key, existing.count() + weight));
+            return;
+        }
+        if (counters.size() < capacity) {
+            insert(new Counter(key, sketchEstimate));
+            return;
+        }
+
+        Counter min = byCount.first();
+        long count = Math.min(sketchEstimate, min.count() + weight);
+        if (count > min.count()) {
+            counters.remove(min.key());
+            byCount.remove(min);
+            insert(new Counter(key, count));
+        }
+    }
+
+    List<UUID> keys() {
+        return new ArrayList<>(counters.keySet());
+    }
+
+    private void replace(Counter old, Counter updated) {
+        byCount.remove(old);
+        insert(updated);
+    }
+
+    private void insert(Counter counter) {
+        counters.put(counter.key(), counter);
+        byCount.add(counter);
+    }
+}
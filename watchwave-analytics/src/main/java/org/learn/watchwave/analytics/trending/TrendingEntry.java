@@ -0,0 +1,6 @@
+package org.learn.watchwave.analytics.trending;
+
+import java.util.UUID;
+
+public record TrendingEntry(UUID id, long score) {
+}
@@ -0,0 +1,91 @@
+package org.learn.watchwave.analytics.trending;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.learn.watchwave.common.event.VideoLikeChangedEvent;
+import org.learn.watchwave.common.event.VideoPlaybackStartedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Live top videos and creators by recent engagement on this node.
+ * A playback start scores 1; a new like scores {@code app.analytics.trending.like-weight}.
+ */
+@Component
+public class TrendingTracker {
+
+    private final SlidingTopK videos;
+    private final SlidingTopK creators;
+    private final int capacity;
+    private final long likeWeight;
+
+    // Rankings per window length are recomputed at most once per refresh interval, however often they are read
+    private final LoadingCache<Integer, List<TrendingEntry>> videoRankings;
+    private final LoadingCache<Integer, List<TrendingEntry>> creatorRankings;
+
+    public TrendingTracker(@Value("${app.analytics.trending.window-minutes:5}") int windowMinutes,
+                           @Value("${app.analytics.trending.capacity:1000}") int capacity,
+                           @Value("${app.analytics.trending.sketch-width:4096}") int sketchWidth,
+                           @Value("${app.analytics.trending.sketch-depth:4}") int sketchDepth,
+                           @Value("${app.analytics.trending.like-weight:5}") long likeWeight,
+                           @Value("${app.analytics.trending.refresh-seconds:5}") long refreshSeconds) {
+        this.videos = new SlidingTopK(windowMinutes, sketchWidth, sketchDepth, capacity);
+        this.creators = new SlidingTopK(windowMinutes, sketchWidth, sketchDepth, capacity);
+        this.capacity = capacity;
+        this.likeWeight = likeWeight;
+        this.videoRankings = rankings(videos, refreshSeconds);
+        this.creatorRankings = rankings(creators, refreshSeconds);
+    }
+
+    @EventListener
+    public void onPlaybackStarted(VideoPlaybackStartedEvent event) {
+        record(event.videoId(), event.creatorId(), 1);
+    }
+
+    // Only new likes count; sketches can't subtract, and an unlike shouldn't make a video trend either
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikeChanged(VideoLikeChangedEvent event) {
+        if (event.likeDelta() > 0) {
+            record(event.videoId(), event.creatorId(), likeWeight);
+        }
+    }
+
+    public List<TrendingEntry> topVideos(int limit, int minutes) {
+        return head(videoRankings.get(minutes), limit);
+    }
+
+    public List<TrendingEntry> topCreators(int limit, int minutes) {
+        return head(creatorRankings.get(minutes), limit);
+    }
+
+    public int windowMinutes() {
+        return videos.windowMinutes();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private void record(UUID videoId, UUID creatorId, long weight) {
+        videos.add(videoId, weight);
+        if (creatorId != null) {
+            creators.add(creatorId, weight);
+        }
+    }
+
+    private LoadingCache<Integer, List<TrendingEntry>> rankings(SlidingTopK window, long refreshSeconds) {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(refreshSeconds))
+                .build(minutes -> window.top(capacity, minutes));
+    }
+
+    private static List<TrendingEntry> head(List<TrendingEntry> ranking, int limit) {
+        return ranking.subList(0, Math.min(limit, ranking.size()));
+    }
+}
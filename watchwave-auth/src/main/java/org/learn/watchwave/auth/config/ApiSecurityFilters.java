@@ -0,0 +1,61 @@
+package org.learn.watchwave.auth.config;
+
+import jakarta.servlet.Filter;
+import org.learn.watchwave.auth.ratelimit.ConcurrencyLimitFilter;
+import org.learn.watchwave.auth.ratelimit.RouteRateLimitFilter;
+import org.learn.watchwave.auth.security.JwtAuthenticationFilter;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+/**
+ * The request filters every module's security chain installs, in one fixed order:
+ * JWT authentication, then per-route rate limits (keyed by the authenticated user),
+ * then the concurrency limit, so rate-limited requests never take a permit.
+ * Boot's automatic servlet registration of these filter beans is disabled; they run only inside the chains.
+ */
+@Configuration
+public class ApiSecurityFilters {
+
+    private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RouteRateLimitFilter routeRateLimitFilter;
+    private final ConcurrencyLimitFilter concurrencyLimitFilter;
+
+    public ApiSecurityFilters(JwtAuthenticationFilter jwtAuthenticationFilter,
+                              RouteRateLimitFilter routeRateLimitFilter,
+                              ConcurrencyLimitFilter concurrencyLimitFilter) {
+        this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.routeRateLimitFilter = routeRateLimitFilter;
+        this.concurrencyLimitFilter = concurrencyLimitFilter;
+    }
+
+    public HttpSecurity apply(HttpSecurity http) {
+        return http
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(routeRateLimitFilter, JwtAuthenticationFilter.class)
+                .addFilterAfter(concurrencyLimitFilter, RouteRateLimitFilter.class);
+    }
+
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration() {
+        return disabled(jwtAuthenticationFilter);
+    }
+
+    @Bean
+    public FilterRegistrationBean<RouteRateLimitFilter> routeRateLimitFilterRegistration() {
+        return disabled(routeRateLimitFilter);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilterRegistration() {
+        return disabled(concurrencyLimitFilter);
+    }
+
+    private static <T extends Filter> FilterRegistrationBean<T> disabled(T filter) {
+        FilterRegistrationBean<T> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+}
@@ -1,47 +1,64 @@
 package org.learn.watchwave.auth.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.learn.watchwave.auth.dto.request.AuthRequest;
+import org.learn.watchwave.auth.dto.request.RefreshTokenRequest;
 import org.learn.watchwave.auth.dto.RegisterRequest;
 import org.learn.watchwave.auth.dto.response.AuthResponse;
+import org.learn.watchwave.auth.ratelimit.AuthRateLimiter;
+import org.learn.watchwave.auth.ratelimit.ClientIpResolver;
 import org.learn.watchwave.auth.service.interfaces.AuthService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/auth")
 public class AuthController {
 
     private final AuthService authService;
+    private final AuthRateLimiter rateLimiter;
+    private final ClientIpResolver clientIpResolver;
 
-    public AuthController(AuthService authService) {
+    public AuthController(AuthService authService, AuthRateLimiter rateLimiter, ClientIpResolver clientIpResolver) {
         this.authService = authService;
+        this.rateLimiter = rateLimiter;
+        this.clientIpResolver = clientIpResolver;
     }
 
+    // Async: the servlet thread is freed while BCrypt runs on the password hashing pool.
+    // Rate limits are checked first so rejected attempts cost neither a DB lookup nor a hash.
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody AuthRequest authRequest) {
-        AuthResponse response = authService.login(authRequest);
-        return ResponseEntity.ok(response);
+    public CompletableFuture<ResponseEntity<AuthResponse>> login(@Valid @RequestBody AuthRequest authRequest,
+                                                                 HttpServletRequest request) {
+        rateLimiter.checkLogin(clientIpResolver.resolve(request), authRequest.getEmail());
+        return authService.login(authRequest)
+                .thenApply(ResponseEntity::ok);
     }
 
     @PostMapping("/register")
-    public ResponseEntity<AuthResponse> register(@Valid @RequestBody RegisterRequest registerRequest) {
-        AuthResponse response = authService.register(registerRequest);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    public CompletableFuture<ResponseEntity<AuthResponse>> register(@Valid @RequestBody RegisterRequest registerRequest,
+                                                                    HttpServletRequest request) {
+        rateLimiter.checkRegister(clientIpResolver.resolve(request));
+        return authService.register(registerRequest)
+                .thenApply(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
     }
 
+    // Public: the access token has usually expired by the time the client refreshes
     @PostMapping("/refresh")
-    public ResponseEntity<AuthResponse> refreshToken(@RequestHeader("Authorization") String authHeader) {
-        String token = authHeader.substring(7);
-        AuthResponse response = authService.refreshToken(token);
+    public ResponseEntity<AuthResponse> refreshToken(@Valid @RequestBody RefreshTokenRequest request) {
+        AuthResponse response = authService.refreshToken(request.getRefreshToken());
         return ResponseEntity.ok(response);
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<String> logout(@RequestHeader("Authorization") String authHeader) {
+    public ResponseEntity<String> logout(@RequestHeader("Authorization") String authHeader,
+                                         @RequestBody(required = false) RefreshTokenRequest request) {
         String token = authHeader.substring(7);
-        authService.logout(token);
+        authService.logout(token, request != null ? request.getRefreshToken() : null);
         return ResponseEntity.ok("Logged out successfully");
     }
 
@@ -0,0 +1,29 @@
+package org.learn.watchwave.auth.controller;
+
+import org.learn.watchwave.auth.ratelimit.RateLimitExceededException;
+import org.learn.watchwave.auth.security.PasswordHashingRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+// Load-shedding responses carry Retry-After so well-behaved clients back off
+@RestControllerAdvice(basePackages = "org.learn.watchwave.auth.controller")
+public class AuthExceptionHandler {
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<String> rateLimited(RateLimitExceededException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(e.getMessage());
+    }
+
+    // Hashing queue full: shed the request immediately instead of letting it wait
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<String> hashingRejected(PasswordHashingRejectedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(e.getMessage());
+    }
+}
@@ -1,5 +1,8 @@
 package org.learn.watchwave.auth.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
+import org.learn.watchwave.auth.ratelimit.AuthRateLimiter;
+import org.learn.watchwave.auth.ratelimit.ClientIpResolver;
 import org.learn.watchwave.auth.service.interfaces.EmailVerificationService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -9,9 +12,15 @@ import org.springframework.web.bind.annotation.*;
 public class EmailVerificationController {
 
     private final EmailVerificationService emailVerificationService;
+    private final AuthRateLimiter rateLimiter;
+    private final ClientIpResolver clientIpResolver;
 
-    public EmailVerificationController(EmailVerificationService emailVerificationService) {
+    public EmailVerificationController(EmailVerificationService emailVerificationService,
+                                       AuthRateLimiter rateLimiter,
+                                       ClientIpResolver clientIpResolver) {
         this.emailVerificationService = emailVerificationService;
+        this.rateLimiter = rateLimiter;
+        this.clientIpResolver = clientIpResolver;
     }
 
     @PostMapping("/verify")
@@ -21,7 +30,8 @@ public class EmailVerificationController {
     }
 
     @PostMapping("/resend-verification")
-    public ResponseEntity<String> resendVerification(@RequestParam String email) {
+    public ResponseEntity<String> resendVerification(@RequestParam String email, HttpServletRequest request) {
+        rateLimiter.checkResendVerification(clientIpResolver.resolve(request), email);
         emailVerificationService.resendVerification(email);
         return ResponseEntity.ok("Verification email sent");
     }
@@ -0,0 +1,61 @@
+package org.learn.watchwave.auth.controller;
+
+import org.learn.watchwave.auth.dto.response.JwkResponse;
+import org.learn.watchwave.auth.dto.response.JwksResponse;
+import org.learn.watchwave.auth.service.jwt.JwtKeyRing;
+import org.learn.watchwave.auth.service.jwt.SigningKey;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+
+// Public keys for verifying access tokens without the signing key
+@RestController
+public class JwksController {
+
+    private final JwtKeyRing keyRing;
+
+    public JwksController(JwtKeyRing keyRing) {
+        this.keyRing = keyRing;
+    }
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<JwksResponse> jwks() {
+        JwksResponse response = JwksResponse.builder()
+                .keys(keyRing.verificationKeys().stream()
+                        .sorted(Comparator.comparing(SigningKey::kid))
+                        .map(JwksController::toJwk)
+                        .toList())
+                .build();
+        // Short enough that a newly published key reaches verifiers well before it starts signing
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(response);
+    }
+
+    private static JwkResponse toJwk(SigningKey key) {
+        return JwkResponse.builder()
+                .kty("RSA")
+                .use("sig")
+                .alg("RS256")
+                .kid(key.kid())
+                .n(base64Url(key.publicKey().getModulus()))
+                .e(base64Url(key.publicKey().getPublicExponent()))
+                .build();
+    }
+
+    // Unsigned big-endian, as JWK requires (BigInteger adds a leading zero byte for the sign)
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
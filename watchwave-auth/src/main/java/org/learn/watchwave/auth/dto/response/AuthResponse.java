@@ -8,7 +8,9 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class AuthResponse {
-    private String token;
+    private String token;              // Short-lived access token (JWT)
+    private String refreshToken;       // Opaque, single-use; exchange at /api/auth/refresh
+    private long expiresIn;            // Access token lifetime in seconds
     private String username;
     private String email;
-}
\ No newline at end of file
+}
@@ -0,0 +1,17 @@
+package org.learn.watchwave.auth.dto.response;
+
+import lombok.*;
+
+// RFC 7517 JSON Web Key for an RS256 public key
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JwkResponse {
+    private String kty;
+    private String use;
+    private String alg;
+    private String kid;
+    private String n;
+    private String e;
+}
@@ -0,0 +1,13 @@
+package org.learn.watchwave.auth.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JwksResponse {
+    private List<JwkResponse> keys;
+}
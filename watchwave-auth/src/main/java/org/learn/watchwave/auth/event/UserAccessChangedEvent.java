@@ -0,0 +1,11 @@
+package org.learn.watchwave.auth.event;
+
+import java.util.UUID;
+
+/**
+ * Published when a user's roles, blocked status or password change.
+ * {@code revokesTokens} is set when tokens issued before the change must stop working (block, delete, password);
+ * role grants only need cached authorities refreshed.
+ */
+public record UserAccessChangedEvent(UUID userId, boolean revokesTokens) {
+}
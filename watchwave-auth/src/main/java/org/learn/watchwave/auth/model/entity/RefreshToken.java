@@ -0,0 +1,42 @@
+package org.learn.watchwave.auth.model.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+// One issued refresh token; only the SHA-256 of the opaque value is stored
+@Entity
+@Table(name = "refresh_tokens", schema = "auth")
+@Getter
+@Setter
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    // Every rotation of one login shares a family; reuse of a rotated token revokes the whole family
+    @Column(name = "family_id", nullable = false)
+    private UUID familyId;
+
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    @Column(name = "created_at", nullable = false)
+    private Timestamp createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Timestamp expiresAt;
+
+    @Column(name = "used_at")
+    private Timestamp usedAt;
+
+    @Column(name = "revoked_at")
+    private Timestamp revokedAt;
+}
@@ -0,0 +1,114 @@
+package org.learn.watchwave.auth.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Vegas-style adaptive concurrency limit. The lowest recent latency approximates the no-load latency,
+ * so {@code limit * (1 - minRtt / rtt)} estimates how many requests are queueing rather than being served.
+ * A short queue grows the limit, a long one shrinks it, each step about log10(limit). Both latencies are
+ * taken from a moving average so that per-request jitter doesn't read as queueing.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private static final double SMOOTHING = 0.2;
+    private static final double RTT_WEIGHT = 0.05;
+    private static final double ALPHA = 3;
+    private static final double BETA = 6;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long baselineWindowNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock updateLock = new ReentrantLock();
+
+    private volatile int limit;
+
+    // Guarded by updateLock. The no-load latency is the minimum over the current and previous window,
+    // so a lasting shift in baseline latency (a slower disk, a bigger table) is learned within two windows.
+    private double estimatedLimit;
+    private double smoothedRtt;
+    private long windowStartNanos;
+    private double currentWindowMinRtt = Double.MAX_VALUE;
+    private double previousWindowMinRtt = Double.MAX_VALUE;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, Duration baselineWindow) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Invalid concurrency limits: " + minLimit + " <= " + initialLimit + " <= " + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.baselineWindowNanos = baselineWindow.toNanos();
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+        this.windowStartNanos = System.nanoTime();
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases a permit. Pass {@code sample = false} for failed requests, whose latency says nothing
+     * about capacity. Latency updates are skipped rather than waited for when another thread holds the lock.
+     */
+    public void release(long rttNanos, boolean sample) {
+        int inFlightAtRelease = inFlight.getAndDecrement();
+        if (!sample || rttNanos <= 0 || !updateLock.tryLock()) {
+            return;
+        }
+        try {
+            update(rttNanos, inFlightAtRelease, System.nanoTime());
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void update(long rttNanos, int inFlightAtRelease, long nowNanos) {
+        if (nowNanos - windowStartNanos > baselineWindowNanos) {
+            previousWindowMinRtt = currentWindowMinRtt;
+            currentWindowMinRtt = Double.MAX_VALUE;
+            windowStartNanos = nowNanos;
+        }
+        smoothedRtt = smoothedRtt == 0 ? rttNanos : smoothedRtt + (rttNanos - smoothedRtt) * RTT_WEIGHT;
+        currentWindowMinRtt = Math.min(currentWindowMinRtt, smoothedRtt);
+        double noLoadRtt = Math.min(currentWindowMinRtt, previousWindowMinRtt);
+
+        // Too little traffic to tell whether more concurrency would help
+        if (inFlightAtRelease < estimatedLimit / 2) {
+            return;
+        }
+
+        double queueSize = estimatedLimit * (1 - noLoadRtt / smoothedRtt);
+        double step = Math.max(1, Math.log10(estimatedLimit));
+        double newLimit;
+        if (queueSize < ALPHA * step) {
+            newLimit = estimatedLimit + step;
+        } else if (queueSize > BETA * step) {
+            newLimit = estimatedLimit - step;
+        } else {
+            return;
+        }
+
+        newLimit = estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+}
@@ -0,0 +1,73 @@
+package org.learn.watchwave.auth.ratelimit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Token-bucket limits for the unauthenticated auth endpoints, checked in the controller before
+ * any DB lookup or BCrypt work. The IP bucket stops one client spraying many accounts; the
+ * account bucket stops a botnet hammering one account from many addresses.
+ */
+@Component
+public class AuthRateLimiter {
+
+    private final RateLimitBackend backend;
+
+    private final BucketSpec loginPerIp;
+    private final BucketSpec loginPerAccount;
+    private final BucketSpec registerPerIp;
+    private final BucketSpec resendPerIp;
+    private final BucketSpec resendPerAccount;
+
+    public AuthRateLimiter(RateLimitBackend backend,
+                           @Value("${app.security.rate-limit.login.ip-capacity:20}") long loginIpCapacity,
+                           @Value("${app.security.rate-limit.login.ip-per-minutes:1}") long loginIpMinutes,
+                           @Value("${app.security.rate-limit.login.account-capacity:5}") long loginAccountCapacity,
+                           @Value("${app.security.rate-limit.login.account-per-minutes:5}") long loginAccountMinutes,
+                           @Value("${app.security.rate-limit.register.ip-capacity:5}") long registerIpCapacity,
+                           @Value("${app.security.rate-limit.register.ip-per-minutes:60}") long registerIpMinutes,
+                           @Value("${app.security.rate-limit.resend.ip-capacity:5}") long resendIpCapacity,
+                           @Value("${app.security.rate-limit.resend.ip-per-minutes:15}") long resendIpMinutes,
+                           @Value("${app.security.rate-limit.resend.account-capacity:3}") long resendAccountCapacity,
+                           @Value("${app.security.rate-limit.resend.account-per-minutes:60}") long resendAccountMinutes) {
+        this.backend = backend;
+        this.loginPerIp = new BucketSpec(loginIpCapacity, Duration.ofMinutes(loginIpMinutes));
+        this.loginPerAccount = new BucketSpec(loginAccountCapacity, Duration.ofMinutes(loginAccountMinutes));
+        this.registerPerIp = new BucketSpec(registerIpCapacity, Duration.ofMinutes(registerIpMinutes));
+        this.resendPerIp = new BucketSpec(resendIpCapacity, Duration.ofMinutes(resendIpMinutes));
+        this.resendPerAccount = new BucketSpec(resendAccountCapacity, Duration.ofMinutes(resendAccountMinutes));
+    }
+
+    public void checkLogin(String clientIp, String email) {
+        consume("login:ip:" + clientIp, loginPerIp);
+        if (email != null && !email.isBlank()) {
+            consume("login:acct:" + normalize(email), loginPerAccount);
+        }
+    }
+
+    public void checkRegister(String clientIp) {
+        consume("register:ip:" + clientIp, registerPerIp);
+    }
+
+    public void checkResendVerification(String clientIp, String email) {
+        consume("resend:ip:" + clientIp, resendPerIp);
+        if (email != null && !email.isBlank()) {
+            consume("resend:acct:" + normalize(email), resendPerAccount);
+        }
+    }
+
+    private void consume(String key, BucketSpec spec) {
+        RateLimitDecision decision = backend.tryConsume(key, spec);
+        if (!decision.allowed()) {
+            throw new RateLimitExceededException(decision.retryAfter());
+        }
+    }
+
+    // Case and padding variants of one address must share a bucket
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
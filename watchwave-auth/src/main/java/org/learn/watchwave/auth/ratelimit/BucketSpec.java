@@ -0,0 +1,17 @@
+package org.learn.watchwave.auth.ratelimit;
+
+import java.time.Duration;
+
+// Token bucket shape: up to `capacity` requests in a burst, refilled at `capacity` per `refillPeriod`
+public record BucketSpec(long capacity, Duration refillPeriod) {
+
+    public BucketSpec {
+        if (capacity <= 0 || refillPeriod.isZero() || refillPeriod.isNegative()) {
+            throw new IllegalArgumentException("Invalid bucket: " + capacity + " per " + refillPeriod);
+        }
+    }
+
+    double tokensPerNano() {
+        return (double) capacity / refillPeriod.toNanos();
+    }
+}
@@ -0,0 +1,28 @@
+package org.learn.watchwave.auth.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// X-Forwarded-For is client-controlled, so it is only honoured behind a proxy that sets it
+@Component
+public class ClientIpResolver {
+
+    private final boolean trustForwardedFor;
+
+    public ClientIpResolver(@Value("${app.security.rate-limit.trust-forwarded-for:false}") boolean trustForwardedFor) {
+        this.trustForwardedFor = trustForwardedFor;
+    }
+
+    public String resolve(HttpServletRequest request) {
+        if (trustForwardedFor) {
+            String forwarded = request.getHeader("X-Forwarded-For");
+            if (forwarded != null && !forwarded.isBlank()) {
+                // The proxy appends the address it saw, so the last entry is the one it vouches for
+                String[] hops = forwarded.split(",");
+                return hops[hops.length - 1].trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,124 @@
+package org.learn.watchwave.auth.ratelimit;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Sheds API requests with 503 once in-flight requests exceed an {@link AdaptiveConcurrencyLimit}.
+ * Streaming and other long transfers are excluded: their duration tracks the client's bandwidth,
+ * not server load, and shedding API calls first keeps threads free for them.
+ */
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final boolean enabled;
+    private final List<String> excludedPatterns;
+    private final AdaptiveConcurrencyLimit limit;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public ConcurrencyLimitFilter(@Value("${app.security.concurrency.enabled:true}") boolean enabled,
+                                  @Value("${app.security.concurrency.initial-limit:100}") int initialLimit,
+                                  @Value("${app.security.concurrency.min-limit:20}") int minLimit,
+                                  @Value("${app.security.concurrency.max-limit:1000}") int maxLimit,
+                                  @Value("${app.security.concurrency.baseline-window-seconds:60}") long baselineWindowSeconds,
+                                  @Value("${app.security.concurrency.exclude:"
+                                          + "/api/videos/*/stream,/api/thumbnails/**,/api/videos/upload}") String[] excluded) {
+        this.enabled = enabled;
+        this.excludedPatterns = Arrays.stream(excluded).map(String::trim).filter(p -> !p.isEmpty()).toList();
+        this.limit = new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit,
+                Duration.ofSeconds(baselineWindowSeconds));
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        if (!limit.tryAcquire()) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.getWriter().write("Server is busy. Please retry later.");
+            return;
+        }
+
+        long start = System.nanoTime();
+        AtomicBoolean released = new AtomicBoolean();
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            if (completed && request.isAsyncStarted()) {
+                // Async handlers (login, register) finish on another thread: hold the permit until then
+                request.getAsyncContext().addListener(new PermitReleasingListener(start, released));
+            } else {
+                release(start, released, completed && response.getStatus() < 500);
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        if (!enabled) {
+            return true;
+        }
+        String path = request.getRequestURI();
+        return excludedPatterns.stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    private void release(long start, AtomicBoolean released, boolean sample) {
+        if (released.compareAndSet(false, true)) {
+            limit.release(System.nanoTime() - start, sample);
+        }
+    }
+
+    private class PermitReleasingListener implements AsyncListener {
+
+        private final long start;
+        private final AtomicBoolean released;
+
+        PermitReleasingListener(long start, AtomicBoolean released) {
+            this.start = start;
+            this.released = released;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            HttpServletResponse response = (HttpServletResponse) event.getSuppliedResponse();
+            release(start, released, response.getStatus() < 500);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release(start, released, false);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release(start, released, false);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Re-register so a re-dispatched request still releases its permit
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.learn.watchwave.auth.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Buckets in a bounded Caffeine map. Idle buckets expire (an idle bucket would be full anyway),
+ * and the map size is capped so a flood of distinct keys can't exhaust memory.
+ */
+@Component
+@ConditionalOnProperty(name = "app.security.rate-limit.backend", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRateLimitBackend implements RateLimitBackend {
+
+    private final Cache<String, TokenBucket> buckets;
+
+    public InMemoryRateLimitBackend(@Value("${app.security.rate-limit.max-keys:100000}") long maxKeys,
+                                    @Value("${app.security.rate-limit.idle-expiry-minutes:60}") long idleMinutes) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .build();
+    }
+
+    @Override
+    public RateLimitDecision tryConsume(String key, BucketSpec spec) {
+        long now = System.nanoTime();
+        return buckets.get(key, k -> new TokenBucket(spec, now)).tryConsume(spec, now);
+    }
+
+    public long size() {
+        return buckets.estimatedSize();
+    }
+}
@@ -0,0 +1,11 @@
+package org.learn.watchwave.auth.ratelimit;
+
+/**
+ * Where bucket state lives. {@link InMemoryRateLimitBackend} keeps it per node; a shared implementation
+ * (e.g. Redis with an atomic script) makes limits cluster-wide and is selected with
+ * {@code app.security.rate-limit.backend}.
+ */
+public interface RateLimitBackend {
+
+    RateLimitDecision tryConsume(String key, BucketSpec spec);
+}
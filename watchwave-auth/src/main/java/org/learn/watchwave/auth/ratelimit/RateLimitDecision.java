@@ -0,0 +1,13 @@
+package org.learn.watchwave.auth.ratelimit;
+
+import java.time.Duration;
+
+// retryAfter is zero when the request was allowed
+public record RateLimitDecision(boolean allowed, Duration retryAfter) {
+
+    static final RateLimitDecision ALLOWED = new RateLimitDecision(true, Duration.ZERO);
+
+    static RateLimitDecision rejected(Duration retryAfter) {
+        return new RateLimitDecision(false, retryAfter);
+    }
+}
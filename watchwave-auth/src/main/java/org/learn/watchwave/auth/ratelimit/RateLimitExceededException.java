@@ -0,0 +1,22 @@
+package org.learn.watchwave.auth.ratelimit;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.time.Duration;
+
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class RateLimitExceededException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public RateLimitExceededException(Duration retryAfter) {
+        super("Too many requests. Please retry later.");
+        this.retryAfter = retryAfter;
+    }
+
+    // Whole seconds, rounded up, for the Retry-After header
+    public long getRetryAfterSeconds() {
+        return Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+    }
+}
@@ -0,0 +1,94 @@
+package org.learn.watchwave.auth.ratelimit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.learn.watchwave.auth.security.JwtAuthenticationDetails;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Per-route, per-user token buckets for write endpoints that are cheap to call and expensive to serve
+ * (likes, comments, reports...). Runs after the JWT filter so buckets are keyed by user ID;
+ * anonymous callers are keyed by IP. Shares the {@link RateLimitBackend} with the login limiter.
+ */
+@Component
+public class RouteRateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitBackend backend;
+    private final ClientIpResolver clientIpResolver;
+    private final List<RouteRateLimitRule> rules;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RouteRateLimitFilter(RateLimitBackend backend,
+                                ClientIpResolver clientIpResolver,
+                                @Value("${app.security.rate-limit.routes:"
+                                        + "POST /api/videos/*/likes 30/60,"
+                                        + "DELETE /api/videos/*/likes 30/60,"
+                                        + "POST /api/videos/*/comments 10/60,"
+                                        + "POST /api/reports 5/300,"
+                                        + "POST /api/users/me/subscriptions 30/60,"
+                                        + "POST /api/users/me/watch-later 60/60,"
+                                        + "POST /api/videos/upload 10/3600}") String[] rules) {
+        this.backend = backend;
+        this.clientIpResolver = clientIpResolver;
+        this.rules = Arrays.stream(rules)
+                .filter(rule -> !rule.isBlank())
+                .map(RouteRateLimitRule::parse)
+                .toList();
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        RouteRateLimitRule rule = matchingRule(request);
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RateLimitDecision decision = backend.tryConsume("route:" + rule.id() + ":" + callerKey(request), rule.spec());
+        if (!decision.allowed()) {
+            RateLimitExceededException e = new RateLimitExceededException(decision.retryAfter());
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+            response.getWriter().write(e.getMessage());
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    // First matching rule wins, so list specific patterns before broad ones
+    private RouteRateLimitRule matchingRule(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        for (RouteRateLimitRule rule : rules) {
+            if (rule.matchesMethod(request.getMethod()) && pathMatcher.match(rule.pattern(), path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private String callerKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getDetails() instanceof JwtAuthenticationDetails details) {
+            return "user:" + details.getVerifiedToken().userId();
+        }
+        return "ip:" + clientIpResolver.resolve(request);
+    }
+}
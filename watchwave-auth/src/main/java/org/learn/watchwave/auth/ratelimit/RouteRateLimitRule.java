@@ -0,0 +1,33 @@
+package org.learn.watchwave.auth.ratelimit;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * One per-route limit, written as {@code "METHOD /path/pattern CAPACITY/SECONDS"},
+ * e.g. {@code "POST /api/reports 5/300"}. Use {@code *} as the method to match any.
+ */
+public record RouteRateLimitRule(String method, String pattern, BucketSpec spec) {
+
+    public static RouteRateLimitRule parse(String rule) {
+        String[] parts = rule.trim().split("\\s+");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Invalid rate limit rule: " + rule);
+        }
+        String[] rate = parts[2].split("/");
+        if (rate.length != 2) {
+            throw new IllegalArgumentException("Invalid rate in rule: " + rule);
+        }
+        BucketSpec spec = new BucketSpec(Long.parseLong(rate[0]), Duration.ofSeconds(Long.parseLong(rate[1])));
+        return new RouteRateLimitRule(parts[0].toUpperCase(Locale.ROOT), parts[1], spec);
+    }
+
+    public boolean matchesMethod(String requestMethod) {
+        return method.equals("*") || method.equalsIgnoreCase(requestMethod);
+    }
+
+    // Bucket key prefix: every path matching the pattern shares one budget per caller
+    public String id() {
+        return method + " " + pattern;
+    }
+}
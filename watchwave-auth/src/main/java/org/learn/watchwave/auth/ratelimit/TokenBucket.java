@@ -0,0 +1,38 @@
+package org.learn.watchwave.auth.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free token bucket: refill and consume are one compare-and-set of an immutable snapshot,
+ * so concurrent requests on the same key never block each other.
+ */
+final class TokenBucket {
+
+    private record State(double tokens, long updatedNanos) {
+    }
+
+    private final AtomicReference<State> state;
+
+    TokenBucket(BucketSpec spec, long nowNanos) {
+        this.state = new AtomicReference<>(new State(spec.capacity(), nowNanos));
+    }
+
+    RateLimitDecision tryConsume(BucketSpec spec, long nowNanos) {
+        double rate = spec.tokensPerNano();
+        while (true) {
+            State current = state.get();
+            long elapsed = Math.max(0, nowNanos - current.updatedNanos());
+            double available = Math.min(spec.capacity(), current.tokens() + elapsed * rate);
+
+            if (available < 1) {
+                // Nothing to write: a rejected request doesn't change the bucket
+                long waitNanos = (long) Math.ceil((1 - available) / rate);
+                return RateLimitDecision.rejected(Duration.ofNanos(waitNanos));
+            }
+            if (state.compareAndSet(current, new State(available - 1, Math.max(nowNanos, current.updatedNanos())))) {
+                return RateLimitDecision.ALLOWED;
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package org.learn.watchwave.auth.repository;
+
+import org.learn.watchwave.auth.model.entity.User;
+
+// Insert path for registration: save() on an entity with an assigned ID would SELECT before inserting
+public interface UserInsertRepository {
+
+    /**
+     * Persists a new user together with its cascaded profile and roles, and flushes immediately,
+     * so a duplicate email or username surfaces here as a DataIntegrityViolationException.
+     */
+    User insert(User user);
+}
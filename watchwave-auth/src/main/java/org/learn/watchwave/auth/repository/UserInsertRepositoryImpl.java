@@ -0,0 +1,18 @@
+package org.learn.watchwave.auth.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.learn.watchwave.auth.model.entity.User;
+
+public class UserInsertRepositoryImpl implements UserInsertRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public User insert(User user) {
+        entityManager.persist(user);
+        entityManager.flush();
+        return user;
+    }
+}
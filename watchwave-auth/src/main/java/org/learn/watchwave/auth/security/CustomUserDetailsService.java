@@ -61,9 +61,14 @@ public class CustomUserDetailsService implements UserDetailsService {
             authorities.add(new SimpleGrantedAuthority("ROLE_USER"));
         }
 
+        // Blocked accounts come back locked so token authentication can turn them away
         return new org.springframework.security.core.userdetails.User(
                 user.getUsername(),
                 user.getPasswordHash(),
+                true,
+                true,
+                true,
+                !user.isBlocked(),
                 authorities
         );
     }
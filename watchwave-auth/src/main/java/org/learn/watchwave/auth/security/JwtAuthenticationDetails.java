@@ -0,0 +1,21 @@
+package org.learn.watchwave.auth.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Getter;
+import org.learn.watchwave.auth.service.jwt.VerifiedToken;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+/**
+ * Request details plus the token verified by {@link JwtAuthenticationFilter}, so controllers
+ * read claims from here instead of parsing the token again.
+ */
+@Getter
+public class JwtAuthenticationDetails extends WebAuthenticationDetails {
+
+    private final transient VerifiedToken verifiedToken;
+
+    public JwtAuthenticationDetails(HttpServletRequest request, VerifiedToken verifiedToken) {
+        super(request);
+        this.verifiedToken = verifiedToken;
+    }
+}
@@ -4,29 +4,40 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.learn.watchwave.auth.security.revocation.RevokedTokenDenylist;
 import org.learn.watchwave.auth.service.jwt.JwtService;
+import org.learn.watchwave.auth.service.jwt.VerifiedToken;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final CustomUserDetailsService userDetailsService;
+    private final UserDetailsCache userDetailsCache;
+    private final StatelessTokenDenylist denylist;
+    private final RevokedTokenDenylist revokedTokens;
 
     public JwtAuthenticationFilter(JwtService jwtService,
-                                   CustomUserDetailsService userDetailsService) {
+                                   UserDetailsCache userDetailsCache,
+                                   StatelessTokenDenylist denylist,
+                                   RevokedTokenDenylist revokedTokens) {
         this.jwtService = jwtService;
-        this.userDetailsService = userDetailsService;
+        this.userDetailsCache = userDetailsCache;
+        this.denylist = denylist;
+        this.revokedTokens = revokedTokens;
     }
 
     @Override
@@ -45,19 +56,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             final String token = authHeader.substring(7);
 
-            // Validate token first
-            if (!jwtService.isTokenValid(token)) {
+            // Verify signature and expiry once; the claims travel with the Authentication from here on
+            Optional<VerifiedToken> verified = jwtService.verify(token);
+            // Logged-out tokens; almost always answered by the in-memory Bloom filter alone
+            if (verified.isEmpty() || revokedTokens.isRevoked(verified.get())) {
                 filterChain.doFilter(request, response);
                 return;
             }
 
-            // Extract user ID from token
-            UUID userId = jwtService.extractUserId(token);
+            UUID userId = verified.get().userId();
 
             // Only proceed if user ID exists and no authentication is set
             if (userId != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-                UserDetails userDetails = userDetailsService.loadUserById(userId);
+                // Tokens minted before role claims existed still take the database path
+                UserDetails userDetails = jwtService.isStateless() && !verified.get().roles().isEmpty()
+                        ? userDetailsFromClaims(verified.get())
+                        : userDetailsCache.get(userId);
+                // Null or locked means the account was revoked or blocked: continue unauthenticated
+                if (userDetails == null || !userDetails.isAccountNonLocked()) {
+                    filterChain.doFilter(request, response);
+                    return;
+                }
 
                 // Create authentication token
                 UsernamePasswordAuthenticationToken authToken =
@@ -67,7 +87,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                 userDetails.getAuthorities()
                         );
 
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                authToken.setDetails(new JwtAuthenticationDetails(request, verified.get()));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
             }
 
@@ -82,12 +102,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // Stateless mode: roles and blocked status come from the signed claims, no database round trip
+    private UserDetails userDetailsFromClaims(VerifiedToken token) {
+        if (token.blocked() || denylist.isRevoked(token)) {
+            return null;
+        }
+
+        List<SimpleGrantedAuthority> authorities = token.roles().stream()
+                .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                .toList();
+        return new User(token.username(), "", authorities);
+    }
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         // Skip filter for public endpoints
         String path = request.getRequestURI();
         return path.equals("/api/auth/login") ||
                 path.equals("/api/auth/register") ||
+                path.equals("/api/auth/refresh") ||
+                path.equals("/.well-known/jwks.json") ||
                 path.equals("/api/auth/verify-email") ||
                 path.startsWith("/public/");
     }
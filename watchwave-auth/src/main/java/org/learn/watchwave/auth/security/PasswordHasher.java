@@ -0,0 +1,107 @@
+package org.learn.watchwave.auth.security;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs BCrypt on a small dedicated pool so a login burst can't tie up the servlet threads.
+ * The queue is bounded; when it is full, work is rejected at once with {@link PasswordHashingRejectedException}.
+ */
+@Component
+@Slf4j
+public class PasswordHasher {
+
+    // Result of a password check; upgradedHash is set when the stored hash used a different cost
+    public record Verification(boolean matches, String upgradedHash) {
+    }
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    private final PasswordEncoder passwordEncoder;
+    private final int strength;
+    private final ThreadPoolExecutor executor;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          @Value("${app.security.bcrypt.strength:10}") int strength,
+                          @Value("${app.security.bcrypt.threads:0}") int threads,
+                          @Value("${app.security.bcrypt.queue-capacity:64}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+        this.strength = strength;
+
+        // BCrypt is pure CPU; more threads than cores only adds latency
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // Checks the password and, on a match, rehashes it at the configured cost if the stored cost differs
+    public CompletableFuture<Verification> verify(String rawPassword, String storedHash) {
+        return submit(() -> {
+            if (storedHash == null || !passwordEncoder.matches(rawPassword, storedHash)) {
+                return new Verification(false, null);
+            }
+            String upgradedHash = needsRehash(storedHash) ? passwordEncoder.encode(rawPassword) : null;
+            return new Verification(true, upgradedHash);
+        });
+    }
+
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    // For callers that must stay synchronous; still bounded by the pool, and rejection surfaces unwrapped
+    public <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public boolean needsRehash(String storedHash) {
+        Matcher matcher = BCRYPT_COST.matcher(storedHash);
+        return !matcher.find() || Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    public int queuedTasks() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("Password hashing queue full ({} queued); rejecting request", executor.getQueue().size());
+            return CompletableFuture.failedFuture(new PasswordHashingRejectedException());
+        }
+    }
+}
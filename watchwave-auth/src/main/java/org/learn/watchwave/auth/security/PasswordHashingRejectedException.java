@@ -0,0 +1,13 @@
+package org.learn.watchwave.auth.security;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// The password hashing queue is full; the client should retry shortly
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    public PasswordHashingRejectedException() {
+        super("Too many login attempts in progress. Please retry shortly.");
+    }
+}
@@ -0,0 +1,63 @@
+package org.learn.watchwave.auth.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.learn.watchwave.auth.event.UserAccessChangedEvent;
+import org.learn.watchwave.auth.service.jwt.JwtService;
+import org.learn.watchwave.auth.service.jwt.VerifiedToken;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+/**
+ * In-memory "revoked before" cutoff per user, consulted in stateless mode instead of reloading the user.
+ * Entries only need to outlive the tokens they cover, so they expire after one token lifetime.
+ */
+@Component
+@Slf4j
+public class StatelessTokenDenylist {
+
+    private final Cache<UUID, Instant> revokedBefore;
+
+    public StatelessTokenDenylist(JwtService jwtService) {
+        this.revokedBefore = Caffeine.newBuilder()
+                .expireAfterWrite(jwtService.getTokenLifetime())
+                .build();
+    }
+
+    public void revokeUser(UUID userId) {
+        revokeUser(userId, Instant.now());
+    }
+
+    // Keeps the latest cutoff when the same change arrives locally and from another node
+    public void revokeUser(UUID userId, Instant cutoff) {
+        // iat has second precision, so a token minted in the same second as the change is denied too
+        Instant truncated = cutoff.truncatedTo(ChronoUnit.SECONDS);
+        revokedBefore.asMap().merge(userId, truncated, (a, b) -> a.isAfter(b) ? a : b);
+    }
+
+    public boolean isRevoked(VerifiedToken token) {
+        Instant cutoff = revokedBefore.getIfPresent(token.userId());
+        if (cutoff == null) {
+            return false;
+        }
+        return token.issuedAt() == null || !token.issuedAt().isAfter(cutoff);
+    }
+
+    public long size() {
+        return revokedBefore.estimatedSize();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccessChanged(UserAccessChangedEvent event) {
+        if (!event.revokesTokens()) {
+            return;
+        }
+        revokeUser(event.userId());
+        log.debug("Revoked stateless tokens issued before now for user {}", event.userId());
+    }
+}
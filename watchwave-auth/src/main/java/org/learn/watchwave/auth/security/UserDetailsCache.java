@@ -0,0 +1,61 @@
+package org.learn.watchwave.auth.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.learn.watchwave.auth.event.UserAccessChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Bounded, TTL'd cache of the {@link UserDetails} used for token authentication.
+ * Sits outside {@link CustomUserDetailsService} so a hit never opens a transaction.
+ */
+@Component
+@Slf4j
+public class UserDetailsCache {
+
+    private final Cache<UUID, UserDetails> cache;
+    private final CustomUserDetailsService userDetailsService;
+
+    public UserDetailsCache(@Value("${app.security.user-cache.max-size:10000}") long maxSize,
+                            @Value("${app.security.user-cache.ttl-seconds:300}") long ttlSeconds,
+                            CustomUserDetailsService userDetailsService) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.userDetailsService = userDetailsService;
+    }
+
+    // UsernameNotFoundException from the loader propagates and nothing is cached
+    public UserDetails get(UUID userId) {
+        return cache.get(userId, this::load);
+    }
+
+    public void evict(UUID userId) {
+        cache.invalidate(userId);
+    }
+
+    // Runs after commit so a concurrent request can't re-cache the old roles
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccessChanged(UserAccessChangedEvent event) {
+        evict(event.userId());
+        log.debug("Evicted cached user details for {}", event.userId());
+    }
+
+    // Token authentication never checks the password, so the hash isn't kept in memory
+    private UserDetails load(UUID userId) {
+        UserDetails details = userDetailsService.loadUserById(userId);
+        if (details instanceof CredentialsContainer container) {
+            container.eraseCredentials();
+        }
+        return details;
+    }
+}
@@ -0,0 +1,141 @@
+package org.learn.watchwave.auth.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.learn.watchwave.auth.event.UserAccessChangedEvent;
+import org.learn.watchwave.auth.service.jwt.JwtService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Fans {@link UserAccessChangedEvent}s out to the other nodes through {@code auth.user_invalidations}.
+ * The row is written inside the changing transaction; every node polls for rows from other nodes and
+ * evicts its {@link UserDetailsCache} entry (and, for revocations, stamps its {@link StatelessTokenDenylist}).
+ */
+@Component
+@Slf4j
+public class UserInvalidationBroadcaster {
+
+    private static final String INSERT_INVALIDATION =
+            "INSERT INTO auth.user_invalidations (user_id, revokes_tokens, origin_node) VALUES (?, ?, ?)";
+
+    // Window is computed on this node's monotonic clock and applied on the database clock, so skew doesn't matter
+    private static final String POLL_INVALIDATIONS = """
+            SELECT id, user_id, revokes_tokens, created_at
+            FROM auth.user_invalidations
+            WHERE created_at >= clock_timestamp() - make_interval(secs => ?)
+              AND origin_node <> ?
+            ORDER BY id
+            """;
+
+    private static final String PURGE_INVALIDATIONS =
+            "DELETE FROM auth.user_invalidations WHERE created_at < clock_timestamp() - make_interval(hours => ?)";
+
+    private record Invalidation(long id, UUID userId, boolean revokesTokens, Instant createdAt) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserDetailsCache userDetailsCache;
+    private final StatelessTokenDenylist denylist;
+    private final Duration overlap;
+    private final Duration initialWindow;
+    private final int retentionHours;
+
+    // Random per process, so a restarted node still picks up its own earlier rows
+    private final UUID nodeId = UUID.randomUUID();
+
+    // Ids seen by the last poll; windows overlap, so this stops the same row being applied twice
+    private Set<Long> applied = Set.of();
+    private long lastPollNanos;
+    private boolean polledOnce;
+
+    public UserInvalidationBroadcaster(JdbcTemplate jdbcTemplate,
+                                       UserDetailsCache userDetailsCache,
+                                       StatelessTokenDenylist denylist,
+                                       JwtService jwtService,
+                                       @Value("${app.security.invalidation.overlap-seconds:30}") long overlapSeconds,
+                                       @Value("${app.security.invalidation.retention-hours:24}") int retentionHours) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userDetailsCache = userDetailsCache;
+        this.denylist = denylist;
+        this.overlap = Duration.ofSeconds(overlapSeconds);
+        // On startup, look back one token lifetime so the denylist covers tokens that are still valid
+        this.initialWindow = jwtService.getTokenLifetime().plus(overlap);
+        this.retentionHours = Math.max(retentionHours, (int) initialWindow.toHours() + 1);
+    }
+
+    // Same transaction as the change, so other nodes see the row exactly when the change is visible
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onUserAccessChanged(UserAccessChangedEvent event) {
+        jdbcTemplate.update(INSERT_INVALIDATION, event.userId(), event.revokesTokens(), nodeId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.invalidation.poll-interval-ms:2000}")
+    public synchronized void poll() {
+        long startedNanos = System.nanoTime();
+        // Reach back to the previous successful poll plus the overlap, which absorbs late commits
+        Duration window = polledOnce
+                ? Duration.ofNanos(startedNanos - lastPollNanos).plus(overlap)
+                : initialWindow;
+
+        List<Invalidation> rows;
+        try {
+            rows = jdbcTemplate.query(POLL_INVALIDATIONS,
+                    (rs, rowNum) -> new Invalidation(
+                            rs.getLong("id"),
+                            rs.getObject("user_id", UUID.class),
+                            rs.getBoolean("revokes_tokens"),
+                            rs.getTimestamp("created_at").toInstant()),
+                    window.toMillis() / 1000.0, nodeId);
+        } catch (DataAccessException e) {
+            // lastPollNanos stays put, so the next window also covers this failed one
+            log.warn("Failed to poll user invalidations: {}", e.getMessage());
+            return;
+        }
+
+        Set<Long> seen = new HashSet<>();
+        int newlyApplied = 0;
+        for (Invalidation row : rows) {
+            seen.add(row.id());
+            if (applied.contains(row.id())) {
+                continue;
+            }
+            userDetailsCache.evict(row.userId());
+            if (row.revokesTokens()) {
+                denylist.revokeUser(row.userId(), row.createdAt());
+            }
+            newlyApplied++;
+        }
+        if (newlyApplied > 0) {
+            log.debug("Applied {} user invalidation(s) from other nodes", newlyApplied);
+        }
+
+        // The next window starts inside this one, so anything it returns again is in this set
+        applied = seen;
+        lastPollNanos = startedNanos;
+        polledOnce = true;
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.invalidation.purge-interval-ms:3600000}")
+    public void purge() {
+        try {
+            int deleted = jdbcTemplate.update(PURGE_INVALIDATIONS, retentionHours);
+            if (deleted > 0) {
+                log.debug("Purged {} old user invalidation row(s)", deleted);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to purge user invalidations: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.learn.watchwave.auth.security.revocation;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+// Stores revocations in auth.revoked_tokens; rows are purged once the token has expired
+@Component
+@ConditionalOnProperty(name = "app.security.revocation.store", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcRevokedTokenStore implements RevokedTokenStore {
+
+    private static final String INSERT_REVOCATION = """
+            INSERT INTO auth.revoked_tokens (jti, expires_at)
+            VALUES (?, ?)
+            ON CONFLICT (jti) DO NOTHING
+            """;
+
+    private static final String IS_REVOKED =
+            "SELECT EXISTS (SELECT 1 FROM auth.revoked_tokens WHERE jti = ? AND expires_at > clock_timestamp())";
+
+    private static final String FIND_ACTIVE =
+            "SELECT jti FROM auth.revoked_tokens WHERE expires_at > clock_timestamp()";
+
+    private static final String FIND_RECENT =
+            "SELECT jti FROM auth.revoked_tokens WHERE revoked_at >= clock_timestamp() - make_interval(secs => ?)";
+
+    private static final String PURGE_EXPIRED =
+            "DELETE FROM auth.revoked_tokens WHERE expires_at <= clock_timestamp()";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcRevokedTokenStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void revoke(UUID jti, Instant expiresAt) {
+        jdbcTemplate.update(INSERT_REVOCATION, jti, expiresAt.atOffset(ZoneOffset.UTC));
+    }
+
+    @Override
+    public boolean isRevoked(UUID jti) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(IS_REVOKED, Boolean.class, jti));
+    }
+
+    @Override
+    public List<UUID> findActive() {
+        return jdbcTemplate.queryForList(FIND_ACTIVE, UUID.class);
+    }
+
+    @Override
+    public List<UUID> findRevokedWithin(Duration window) {
+        return jdbcTemplate.queryForList(FIND_RECENT, UUID.class, window.toMillis() / 1000.0);
+    }
+
+    @Override
+    public int purgeExpired() {
+        return jdbcTemplate.update(PURGE_EXPIRED);
+    }
+}
@@ -0,0 +1,140 @@
+package org.learn.watchwave.auth.security.revocation;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.learn.watchwave.auth.service.jwt.VerifiedToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Per-token revocation check for {@link org.learn.watchwave.auth.security.JwtAuthenticationFilter}.
+ * A Bloom filter of every active revoked {@code jti} answers "not revoked" for almost every request
+ * without touching the store; only filter hits are confirmed against the exact {@link RevokedTokenStore}.
+ * The filter is rebuilt periodically from the store, which drops expired entries.
+ */
+@Component
+@Slf4j
+public class RevokedTokenDenylist {
+
+    private final RevokedTokenStore store;
+    private final long expectedTokens;
+    private final double falsePositiveRate;
+    private final Duration overlap;
+
+    private volatile BloomFilter filter;
+
+    // Store confirmations of filter hits; revocations are only ever added, so a cached "true" stays true
+    private final Cache<UUID, Boolean> confirmed;
+
+    // Ids revoked locally while a rebuild is reading the store, replayed into the new filter
+    private List<UUID> addedDuringRebuild;
+
+    private volatile long lastPollNanos;
+    private volatile boolean built;
+
+    public RevokedTokenDenylist(RevokedTokenStore store,
+                                @Value("${app.security.revocation.expected-tokens:100000}") long expectedTokens,
+                                @Value("${app.security.revocation.false-positive-rate:0.001}") double falsePositiveRate,
+                                @Value("${app.security.revocation.overlap-seconds:30}") long overlapSeconds) {
+        this.store = store;
+        this.expectedTokens = expectedTokens;
+        this.falsePositiveRate = falsePositiveRate;
+        this.overlap = Duration.ofSeconds(overlapSeconds);
+        this.filter = new BloomFilter(expectedTokens, falsePositiveRate);
+        this.confirmed = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofMinutes(5))
+                .build();
+    }
+
+    public boolean isRevoked(VerifiedToken token) {
+        UUID jti = token.jti();
+        if (jti == null || !filter.mightContain(jti)) {
+            return false;
+        }
+        try {
+            return confirmed.get(jti, store::isRevoked);
+        } catch (DataAccessException e) {
+            // The filter says it is probably revoked; without the store to overrule it, fail closed
+            log.warn("Could not confirm revocation of token {}: {}", jti, e.getMessage());
+            return true;
+        }
+    }
+
+    public void revoke(VerifiedToken token) {
+        if (token.jti() == null || token.expiresAt() == null) {
+            throw new IllegalArgumentException("Token has no id or expiry and cannot be revoked");
+        }
+        store.revoke(token.jti(), token.expiresAt());
+        add(token.jti());
+        confirmed.put(token.jti(), true);
+    }
+
+    // Picks up revocations made on other nodes
+    @Scheduled(fixedDelayString = "${app.security.revocation.poll-interval-ms:2000}")
+    public void poll() {
+        if (!built) {
+            rebuild();
+            return;
+        }
+
+        long startedNanos = System.nanoTime();
+        Duration window = Duration.ofNanos(startedNanos - lastPollNanos).plus(overlap);
+        try {
+            for (UUID jti : store.findRevokedWithin(window)) {
+                add(jti);
+                confirmed.put(jti, true);
+            }
+            lastPollNanos = startedNanos;
+        } catch (DataAccessException e) {
+            // lastPollNanos stays put, so the next window also covers this failed one
+            log.warn("Failed to poll revoked tokens: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.revocation.rebuild-interval-ms:600000}",
+            initialDelayString = "${app.security.revocation.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        long startedNanos = System.nanoTime();
+        synchronized (this) {
+            addedDuringRebuild = new ArrayList<>();
+        }
+        try {
+            int purged = store.purgeExpired();
+            List<UUID> active = store.findActive();
+
+            BloomFilter rebuilt = new BloomFilter(Math.max(expectedTokens, active.size() * 2L), falsePositiveRate);
+            active.forEach(rebuilt::add);
+
+            synchronized (this) {
+                addedDuringRebuild.forEach(rebuilt::add);
+                filter = rebuilt;
+            }
+            lastPollNanos = startedNanos;
+            built = true;
+            log.debug("Rebuilt revoked-token filter: {} active, {} purged, {} bytes",
+                    active.size(), purged, rebuilt.sizeInBytes());
+        } catch (DataAccessException e) {
+            log.warn("Failed to rebuild revoked-token filter: {}", e.getMessage());
+        } finally {
+            synchronized (this) {
+                addedDuringRebuild = null;
+            }
+        }
+    }
+
+    private synchronized void add(UUID jti) {
+        filter.add(jti);
+        if (addedDuringRebuild != null) {
+            addedDuringRebuild.add(jti);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package org.learn.watchwave.auth.security.revocation;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Exact, node-shared record of revoked token ids ({@code jti}). Entries only matter until the token expires.
+ * {@link JdbcRevokedTokenStore} is the default; another implementation (e.g. Redis) can be selected
+ * with {@code app.security.revocation.store}.
+ */
+public interface RevokedTokenStore {
+
+    void revoke(UUID jti, Instant expiresAt);
+
+    boolean isRevoked(UUID jti);
+
+    // Every revocation whose token hasn't expired yet, used to rebuild the Bloom filter
+    List<UUID> findActive();
+
+    // Revocations recorded in the last {@code window}, used to pick up other nodes' logouts
+    List<UUID> findRevokedWithin(Duration window);
+
+    int purgeExpired();
+}
@@ -1,147 +1,171 @@
 package org.learn.watchwave.auth.service.impl;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.learn.watchwave.auth.dto.request.AuthRequest;
 import org.learn.watchwave.auth.dto.RegisterRequest;
 import org.learn.watchwave.auth.dto.response.AuthResponse;
-import org.learn.watchwave.auth.model.entity.Role;
 import org.learn.watchwave.auth.model.entity.User;
 import org.learn.watchwave.auth.model.entity.UserProfile;
 import org.learn.watchwave.auth.model.entity.UserRole;
-import org.learn.watchwave.auth.model.id.UserRoleId;
-import org.learn.watchwave.auth.repository.RoleRepository;
 import org.learn.watchwave.auth.repository.UserRepository;
-import org.learn.watchwave.auth.repository.UserRoleRepository;
+import org.learn.watchwave.auth.security.PasswordHasher;
+import org.learn.watchwave.auth.security.revocation.RevokedTokenDenylist;
 import org.learn.watchwave.auth.service.interfaces.AuthService;
 import org.learn.watchwave.auth.service.jwt.JwtService;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.AuthenticationException;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.learn.watchwave.auth.service.jwt.RefreshTokenService;
+import org.learn.watchwave.auth.service.role.RoleCache;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @Service
 @Transactional
 public class AuthServiceImpl implements AuthService {
 
-    private final AuthenticationManager authenticationManager;
     private final JwtService jwtService;
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
-    private final RoleRepository roleRepository;           // ADD THIS
-    private final UserRoleRepository userRoleRepository;   // ADD THIS
-
-    public AuthServiceImpl(AuthenticationManager authenticationManager,
-                           JwtService jwtService,
+    private final PasswordHasher passwordHasher;
+    private final TransactionTemplate transactionTemplate;
+    private final RoleCache roleCache;
+    private final RevokedTokenDenylist revokedTokens;
+    private final RefreshTokenService refreshTokenService;
+    // Database work after hashing runs here, so the hashing pool only ever hashes
+    private final Executor ioExecutor;
+
+    public AuthServiceImpl(JwtService jwtService,
                            UserRepository userRepository,
-                           PasswordEncoder passwordEncoder,
-                           RoleRepository roleRepository,           // ADD THIS
-                           UserRoleRepository userRoleRepository) { // ADD THIS
-        this.authenticationManager = authenticationManager;
+                           PasswordHasher passwordHasher,
+                           PlatformTransactionManager transactionManager,
+                           RoleCache roleCache,
+                           RevokedTokenDenylist revokedTokens,
+                           RefreshTokenService refreshTokenService,
+                           @Qualifier("applicationTaskExecutor") Executor ioExecutor) {
         this.jwtService = jwtService;
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
-        this.roleRepository = roleRepository;               // ADD THIS
-        this.userRoleRepository = userRoleRepository;       // ADD THIS
+        this.passwordHasher = passwordHasher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.roleCache = roleCache;
+        this.revokedTokens = revokedTokens;
+        this.refreshTokenService = refreshTokenService;
+        this.ioExecutor = ioExecutor;
     }
 
+    // BCrypt runs on PasswordHasher's pool and the writes that follow on the I/O executor;
+    // the servlet thread is released while they work.
+    // One query loads the user with roles; the password is checked against that row and the token built from it.
     @Override
-    public AuthResponse login(AuthRequest authRequest) {
-        try {
-            User user = userRepository.findByEmail(authRequest.getEmail())
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
-            if (user.isBlocked()) {
-                throw new RuntimeException("Account is blocked. Please contact support.");
-            }
-
-            authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(user.getUsername(), authRequest.getPassword())
-            );
-
-            String token = jwtService.generateToken(user);
-            return new AuthResponse(token, user.getUsername(), user.getEmail());
-        } catch (AuthenticationException ex) {
-            throw new RuntimeException("Invalid email or password");
+    public CompletableFuture<AuthResponse> login(AuthRequest authRequest) {
+        User user = userRepository.findByEmailWithRoles(authRequest.getEmail())
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        if (user.isBlocked()) {
+            throw new RuntimeException("Account is blocked. Please contact support.");
         }
+
+        return passwordHasher.verify(authRequest.getPassword(), user.getPasswordHash())
+                .thenApplyAsync(verification -> {
+                    if (!verification.matches()) {
+                        throw new RuntimeException("Invalid email or password");
+                    }
+                    if (verification.upgradedHash() != null) {
+                        userRepository.replacePasswordHash(
+                                user.getId(), user.getPasswordHash(), verification.upgradedHash());
+                    }
+                    return issueTokens(user, refreshTokenService.issue(user.getId()));
+                }, ioExecutor);
     }
 
+    // No existence checks up front: the unique constraints on email and username decide, in the same insert
     @Override
-    public AuthResponse register(RegisterRequest registerRequest) {
-        if (userRepository.existsByEmail(registerRequest.getEmail())) {
-            throw new RuntimeException("Email already exists");
-        }
+    public CompletableFuture<AuthResponse> register(RegisterRequest registerRequest) {
+        // The continuation runs after this method's transaction has ended, so it opens its own
+        return passwordHasher.encode(registerRequest.getPassword())
+                .thenApplyAsync(passwordHash -> {
+                    try {
+                        return transactionTemplate.execute(status -> {
+                            User user = createUser(registerRequest, passwordHash);
+                            user.getRoles().add(new UserRole(user, roleCache.get("USER")));
+
+                            // Profile and role rows are cascaded with the user
+                            User savedUser = userRepository.insert(user);
+                            return issueTokens(savedUser, refreshTokenService.issue(savedUser.getId()));
+                        });
+                    } catch (DataIntegrityViolationException e) {
+                        throw duplicateUserException(e);
+                    }
+                }, ioExecutor);
+    }
 
-        if (userRepository.existsByUsername(registerRequest.getUsername())) {
-            throw new RuntimeException("Username already exists");
+    // Postgres names the constraints users_email_key and users_username_key
+    private RuntimeException duplicateUserException(DataIntegrityViolationException e) {
+        String constraint = e.getCause() instanceof ConstraintViolationException violation
+                ? violation.getConstraintName()
+                : null;
+        if (constraint != null && constraint.contains("email")) {
+            return new RuntimeException("Email already exists");
         }
-
-        User user = createUser(registerRequest);
-        User savedUser = userRepository.save(user);
-
-        assignDefaultRole(savedUser);
-
-        String token = jwtService.generateToken(savedUser);
-        return new AuthResponse(token, savedUser.getUsername(), savedUser.getEmail());
+        if (constraint != null && constraint.contains("username")) {
+            return new RuntimeException("Username already exists");
+        }
+        return e;
     }
 
-    private void assignDefaultRole(User user) {
-        try {
-            Role userRole = roleRepository.findByRoleName("USER")
-                    .orElseThrow(() -> new RuntimeException("USER role not found. Please ensure DataInitializer has run."));
-
-            UserRole userRoleEntity = new UserRole();
-            UserRoleId userRoleId = new UserRoleId(user.getId(), userRole.getId());
-            userRoleEntity.setId(userRoleId);
-            userRoleEntity.setUser(user);
-            userRoleEntity.setRole(userRole);
+    // Only the rare refresh touches storage: it rotates the refresh token and re-reads roles and blocked status
+    @Override
+    public AuthResponse refreshToken(String refreshToken) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken)
+                .orElseThrow(() -> new RuntimeException("Invalid or expired refresh token"));
 
-            userRoleRepository.save(userRoleEntity);
+        User user = userRepository.findByIdWithRoles(rotation.userId())
+                .orElseThrow(() -> new RuntimeException("User not found"));
 
-            System.out.println("✅ Assigned USER role to: " + user.getUsername());
-        } catch (Exception e) {
-            System.err.println("❌ Failed to assign role to " + user.getUsername() + ": " + e.getMessage());
-            e.printStackTrace();
+        if (user.isBlocked()) {
+            throw new RuntimeException("Account is blocked. Please contact support.");
         }
+
+        return issueTokens(user, rotation.refreshToken());
     }
 
     @Override
-    public AuthResponse refreshToken(String token) {
-        if (jwtService.isTokenValid(token)) {
-            UUID userId = jwtService.extractUserId(token);
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
-            if (user.isBlocked()) {
-                throw new RuntimeException("Account is blocked. Please contact support.");
-            }
-
-            String newToken = jwtService.generateToken(user);
-            return new AuthResponse(newToken, user.getUsername(), user.getEmail());
+    public void logout(String accessToken, String refreshToken) {
+        // Expired or invalid tokens are already unusable; tokens minted before jti existed just run out
+        jwtService.verify(accessToken)
+                .filter(verified -> verified.jti() != null)
+                .ifPresent(revokedTokens::revoke);
+
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenService.revokeFamily(refreshToken);
         }
-        throw new RuntimeException("Invalid or expired token");
     }
 
-    @Override
-    public void logout(String token) {
-        //Might do later
+    private AuthResponse issueTokens(User user, String refreshToken) {
+        String accessToken = jwtService.generateToken(user);
+        return new AuthResponse(accessToken, refreshToken, jwtService.getTokenLifetime().toSeconds(),
+                user.getUsername(), user.getEmail());
     }
 
     @Override
     public boolean validateToken(String token) {
-        return jwtService.isTokenValid(token);
+        return jwtService.verify(token)
+                .map(verified -> !revokedTokens.isRevoked(verified))
+                .orElse(false);
     }
 
-    private User createUser(RegisterRequest registerRequest) {
+    private User createUser(RegisterRequest registerRequest, String passwordHash) {
         User user = new User();
         user.setId(UUID.randomUUID());
         user.setUsername(registerRequest.getUsername());
         user.setEmail(registerRequest.getEmail());
-        user.setPasswordHash(passwordEncoder.encode(registerRequest.getPassword()));
+        user.setPasswordHash(passwordHash);
         user.setCreatedAt(Timestamp.from(Instant.now()));
         user.setUpdatedAt(Timestamp.from(Instant.now()));
         user.setVerificationToken(UUID.randomUUID().toString());
@@ -1,15 +1,17 @@
 package org.learn.watchwave.auth.service.impl;
 
+import org.learn.watchwave.auth.event.UserAccessChangedEvent;
 import org.learn.watchwave.auth.model.entity.Role;
 import org.learn.watchwave.auth.model.entity.RoleChangeRequestEntity;
 import org.learn.watchwave.auth.model.entity.User;
 import org.learn.watchwave.auth.model.entity.UserRole;
 import org.learn.watchwave.auth.model.id.UserRoleId;
 import org.learn.watchwave.auth.repository.RoleChangeRequestRepository;
-import org.learn.watchwave.auth.repository.RoleRepository;
 import org.learn.watchwave.auth.repository.UserRepository;
 import org.learn.watchwave.auth.repository.UserRoleRepository;
 import org.learn.watchwave.auth.service.interfaces.RoleService;
+import org.learn.watchwave.auth.service.role.RoleCache;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,17 +26,20 @@ public class RoleServiceImpl implements RoleService {
 
     private final RoleChangeRequestRepository roleChangeRequestRepository;
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
+    private final RoleCache roleCache;
     private final UserRoleRepository userRoleRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public RoleServiceImpl(RoleChangeRequestRepository roleChangeRequestRepository,
                            UserRepository userRepository,
-                           RoleRepository roleRepository,
-                           UserRoleRepository userRoleRepository) {
+                           RoleCache roleCache,
+                           UserRoleRepository userRoleRepository,
+                           ApplicationEventPublisher eventPublisher) {
         this.roleChangeRequestRepository = roleChangeRequestRepository;
         this.userRepository = userRepository;
-        this.roleRepository = roleRepository;
+        this.roleCache = roleCache;
         this.userRoleRepository = userRoleRepository;
+        this.eventPublisher = eventPublisher;
     }
     @Override
     public void upgradeToCreator(UUID userId) {
@@ -121,14 +126,14 @@ public class RoleServiceImpl implements RoleService {
 
     @Override
     public void assignRole(User user, String roleName) {
-        Role role = roleRepository.findByRoleName(roleName)
-                .orElseThrow(() -> new RuntimeException("Role not found: " + roleName));
+        Role role = roleCache.get(roleName);
 
         // Check if user already has this role using the composite key
         UserRoleId userRoleId = new UserRoleId(user.getId(), role.getId());
         if (!userRoleRepository.existsById(userRoleId)) {
             UserRole userRole = new UserRole(user, role);
             userRoleRepository.save(userRole);
+            eventPublisher.publishEvent(new UserAccessChangedEvent(user.getId(), false));
         }
     }
 }
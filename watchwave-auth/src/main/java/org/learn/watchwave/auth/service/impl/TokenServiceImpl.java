@@ -2,6 +2,7 @@ package org.learn.watchwave.auth.service.impl;
 
 import org.learn.watchwave.auth.service.interfaces.TokenService;
 import org.learn.watchwave.auth.service.jwt.JwtService;
+import org.learn.watchwave.auth.service.jwt.VerifiedToken;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
@@ -23,11 +24,9 @@ public class TokenServiceImpl implements TokenService {
 
         String token = authHeader.substring(7);
 
-        if (jwtService.isTokenValid(token)) {
-            return jwtService.extractUserId(token);
-        }
-
-        throw new RuntimeException("Invalid or expired token");
+        return jwtService.verify(token)
+                .map(VerifiedToken::userId)
+                .orElseThrow(() -> new RuntimeException("Invalid or expired token"));
     }
 
     @Override
@@ -2,13 +2,15 @@ package org.learn.watchwave.auth.service.impl;
 
 import org.learn.watchwave.auth.dto.request.ChangePasswordRequest;
 import org.learn.watchwave.auth.dto.request.UpdateUserRequest;
+import org.learn.watchwave.auth.event.UserAccessChangedEvent;
 import org.learn.watchwave.auth.model.entity.User;
 import org.learn.watchwave.auth.repository.UserRepository;
+import org.learn.watchwave.auth.security.PasswordHasher;
 import org.learn.watchwave.auth.service.interfaces.UserService;
 import org.learn.watchwave.auth.service.jwt.JwtService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,14 +24,17 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final JwtService jwtService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UserServiceImpl(UserRepository userRepository,
                            JwtService jwtService,
-                           PasswordEncoder passwordEncoder) {
+                           PasswordHasher passwordHasher,
+                           ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.jwtService = jwtService;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -96,13 +101,16 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        if (!passwordEncoder.matches(changePasswordRequest.getCurrentPassword(), user.getPasswordHash())) {
+        PasswordHasher.Verification current = passwordHasher.await(
+                passwordHasher.verify(changePasswordRequest.getCurrentPassword(), user.getPasswordHash()));
+        if (!current.matches()) {
             throw new RuntimeException("Current password is incorrect");
         }
 
-        user.setPasswordHash(passwordEncoder.encode(changePasswordRequest.getNewPassword()));
+        user.setPasswordHash(passwordHasher.await(passwordHasher.encode(changePasswordRequest.getNewPassword())));
         user.setUpdatedAt(Timestamp.from(Instant.now()));
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserAccessChangedEvent(userId, true));
     }
 
     // Admin methods implementation
@@ -132,6 +140,7 @@ public class UserServiceImpl implements UserService {
         user.setBlocked(true);
         user.setUpdatedAt(Timestamp.from(Instant.now()));
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserAccessChangedEvent(userId, true));
     }
 
     @Override
@@ -142,6 +151,7 @@ public class UserServiceImpl implements UserService {
         user.setBlocked(false);
         user.setUpdatedAt(Timestamp.from(Instant.now()));
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserAccessChangedEvent(userId, false));
     }
 
     @Override
@@ -156,6 +166,7 @@ public class UserServiceImpl implements UserService {
         user.setUsername("deleted_" + userId);
         user.setUpdatedAt(Timestamp.from(Instant.now()));
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserAccessChangedEvent(userId, true));
 
         // Alternative: Hard delete (use with caution)
         // userRepository.delete(user);
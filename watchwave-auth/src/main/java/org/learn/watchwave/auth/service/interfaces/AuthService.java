@@ -4,15 +4,19 @@ import org.learn.watchwave.auth.dto.request.AuthRequest;
 import org.learn.watchwave.auth.dto.RegisterRequest;
 import org.learn.watchwave.auth.dto.response.AuthResponse;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface AuthService {
 
-    AuthResponse login(AuthRequest authRequest);
+    // Complete once password hashing has finished on its own pool
+    CompletableFuture<AuthResponse> login(AuthRequest authRequest);
 
-    AuthResponse register(RegisterRequest registerRequest);
+    CompletableFuture<AuthResponse> register(RegisterRequest registerRequest);
 
-    AuthResponse refreshToken(String token);
+    AuthResponse refreshToken(String refreshToken);
 
-    void logout(String token);
+    // refreshToken may be null; when given, the whole refresh session ends too
+    void logout(String accessToken, String refreshToken);
 
     boolean validateToken(String token);
 }
\ No newline at end of file
@@ -0,0 +1,288 @@
+package org.learn.watchwave.auth.service.jwt;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * RS256 keys by key id ({@code kid}). Several keys can be live at once, so tokens signed with the previous key
+ * keep verifying while a new one takes over.
+ * <ul>
+ *   <li>{@code app.security.jwt.keys-dir}: PKCS#8 private keys as {@code <kid>.pem} (sign and verify) and
+ *       X.509 public keys as {@code <kid>.pub.pem} (verify only). Rescanned every reload interval.</li>
+ *   <li>{@code app.security.jwt.jwks-uri}: another node's JWKS, for nodes that only verify.</li>
+ *   <li>Neither: tokens stay HS256 with the shared {@code jwt.secret}, as before RS256 keys existed. Without a
+ *       secret, startup fails unless the {@code dev} profile is active, which gets a throwaway key.</li>
+ * </ul>
+ * While {@code jwt.secret} is set alongside RS256 keys, existing HS256 tokens keep verifying until they expire.
+ */
+@Component
+@Slf4j
+public class JwtKeyRing {
+
+    private static final Duration MIN_JWKS_REFETCH = Duration.ofSeconds(30);
+
+    private final Path keysDir;
+    private final String configuredActiveKid;
+    private final URI jwksUri;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SecretKey hmacKey;
+
+    // Unknown-kid refetches run here so a slow issuer never stalls a request thread
+    private final ExecutorService refetchExecutor;
+    private final AtomicBoolean refetchPending = new AtomicBoolean();
+
+    // Replaced wholesale on reload; readers never see a half-built ring
+    private volatile Map<String, SigningKey> keys = Map.of();
+    private volatile SigningKey activeKey;
+    private volatile long lastJwksFetchNanos;
+
+    public JwtKeyRing(@Value("${app.security.jwt.keys-dir:}") String keysDir,
+                      @Value("${app.security.jwt.active-kid:}") String activeKid,
+                      @Value("${app.security.jwt.jwks-uri:}") String jwksUri,
+                      @Value("${jwt.secret:}") String jwtSecret,
+                      @Value("#{environment.matchesProfiles('dev')}") boolean devProfile) {
+        this.keysDir = keysDir.isBlank() ? null : Path.of(keysDir);
+        this.configuredActiveKid = activeKid.isBlank() ? null : activeKid;
+        this.jwksUri = jwksUri.isBlank() ? null : URI.create(jwksUri);
+        this.httpClient = this.jwksUri == null ? null : HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.refetchExecutor = this.jwksUri == null ? null : Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "jwks-refetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.hmacKey = jwtSecret.isBlank() ? null : new SecretKeySpec(
+                jwtSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+
+        if (this.keysDir != null || this.jwksUri != null) {
+            reload();
+        } else if (hmacKey != null) {
+            log.info("No RS256 keys configured; signing HS256 with jwt.secret");
+        } else if (devProfile) {
+            SigningKey generated = generateKey();
+            this.keys = Map.of(generated.kid(), generated);
+            this.activeKey = generated;
+            log.warn("No JWT keys configured; generated throwaway key {} for the dev profile", generated.kid());
+        } else {
+            // A per-node key would silently break tokens across nodes and restarts
+            throw new IllegalStateException("No JWT key configured: set app.security.jwt.keys-dir, "
+                    + "app.security.jwt.jwks-uri or jwt.secret");
+        }
+    }
+
+    // Empty if this node only verifies or still signs with jwt.secret
+    public Optional<SigningKey> activeKey() {
+        return Optional.ofNullable(activeKey);
+    }
+
+    // The shared jwt.secret, if set; signs when there is no RS256 key and verifies HS256 tokens
+    public Optional<SecretKey> hmacKey() {
+        return Optional.ofNullable(hmacKey);
+    }
+
+    public Optional<RSAPublicKey> publicKey(String kid) {
+        if (kid == null) {
+            return Optional.empty();
+        }
+        SigningKey key = keys.get(kid);
+        if (key == null && jwksUri != null) {
+            // A verifier sees a new kid before its scheduled refresh. This token is rejected;
+            // once the background fetch lands, the client's retry verifies
+            requestRefetch();
+        }
+        return Optional.ofNullable(key).map(SigningKey::publicKey);
+    }
+
+    // Everything published at /.well-known/jwks.json
+    public Collection<SigningKey> verificationKeys() {
+        return keys.values();
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.jwt.reload-interval-ms:60000}")
+    public synchronized void reload() {
+        if (keysDir == null && jwksUri == null) {
+            return;
+        }
+
+        Map<String, SigningKey> loaded = new HashMap<>();
+        try {
+            if (jwksUri != null) {
+                loaded.putAll(fetchJwks());
+            }
+            if (keysDir != null) {
+                loaded.putAll(readKeysDir());
+            }
+        } catch (IOException | GeneralSecurityException | InterruptedException | IllegalArgumentException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            // Keep verifying with the keys we already have
+            log.warn("Failed to reload JWT keys: {}", e.getMessage());
+            return;
+        }
+
+        SigningKey active = chooseActive(loaded);
+        keys = Map.copyOf(loaded);
+        activeKey = active;
+        log.debug("Loaded {} JWT key(s); signing with {}", loaded.size(), active != null ? active.kid() : "none");
+    }
+
+    // An explicit active-kid lets a new key be published before it signs anything; otherwise the highest kid wins
+    private SigningKey chooseActive(Map<String, SigningKey> loaded) {
+        if (configuredActiveKid != null) {
+            SigningKey configured = loaded.get(configuredActiveKid);
+            if (configured == null || !configured.canSign()) {
+                log.warn("Configured active JWT key {} has no private key here", configuredActiveKid);
+                return null;
+            }
+            return configured;
+        }
+        return loaded.values().stream()
+                .filter(SigningKey::canSign)
+                .max((a, b) -> a.kid().compareTo(b.kid()))
+                .orElse(null);
+    }
+
+    private Map<String, SigningKey> readKeysDir() throws IOException, GeneralSecurityException {
+        Map<String, SigningKey> loaded = new HashMap<>();
+        KeyFactory rsa = KeyFactory.getInstance("RSA");
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(keysDir, "*.pem")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                byte[] der = decodePem(Files.readString(file));
+
+                if (name.endsWith(".pub.pem")) {
+                    String kid = name.substring(0, name.length() - ".pub.pem".length());
+                    RSAPublicKey publicKey = (RSAPublicKey) rsa.generatePublic(new X509EncodedKeySpec(der));
+                    loaded.putIfAbsent(kid, new SigningKey(kid, publicKey, null));
+                } else {
+                    String kid = name.substring(0, name.length() - ".pem".length());
+                    PrivateKey privateKey = rsa.generatePrivate(new PKCS8EncodedKeySpec(der));
+                    if (!(privateKey instanceof RSAPrivateCrtKey crt)) {
+                        throw new GeneralSecurityException("Key " + kid + " is not an RSA CRT private key");
+                    }
+                    RSAPublicKey publicKey = (RSAPublicKey) rsa.generatePublic(
+                            new RSAPublicKeySpec(crt.getModulus(), crt.getPublicExponent()));
+                    loaded.put(kid, new SigningKey(kid, publicKey, privateKey));
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private Map<String, SigningKey> fetchJwks() throws IOException, InterruptedException, GeneralSecurityException {
+        lastJwksFetchNanos = System.nanoTime();
+        HttpRequest request = HttpRequest.newBuilder(jwksUri)
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("JWKS fetch returned HTTP " + response.statusCode());
+        }
+
+        Map<String, SigningKey> loaded = new HashMap<>();
+        KeyFactory rsa = KeyFactory.getInstance("RSA");
+        Base64.Decoder decoder = Base64.getUrlDecoder();
+
+        for (JsonNode jwk : objectMapper.readTree(response.body()).path("keys")) {
+            if (!"RSA".equals(jwk.path("kty").asText()) || !jwk.hasNonNull("kid")) {
+                continue;
+            }
+            BigInteger modulus = new BigInteger(1, decoder.decode(jwk.path("n").asText()));
+            BigInteger exponent = new BigInteger(1, decoder.decode(jwk.path("e").asText()));
+            RSAPublicKey publicKey = (RSAPublicKey) rsa.generatePublic(new RSAPublicKeySpec(modulus, exponent));
+            String kid = jwk.path("kid").asText();
+            loaded.put(kid, new SigningKey(kid, publicKey, null));
+        }
+        return loaded;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refetchExecutor != null) {
+            refetchExecutor.shutdownNow();
+        }
+    }
+
+    // At most one fetch queued, and at most one every MIN_JWKS_REFETCH
+    private void requestRefetch() {
+        if (!refetchAllowed() || !refetchPending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refetchExecutor.execute(() -> {
+                try {
+                    reload();
+                } finally {
+                    refetchPending.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refetchPending.set(false);
+        }
+    }
+
+    private boolean refetchAllowed() {
+        return System.nanoTime() - lastJwksFetchNanos >= MIN_JWKS_REFETCH.toNanos();
+    }
+
+    private static byte[] decodePem(String pem) {
+        String base64 = pem.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+
+    private static SigningKey generateKey() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            KeyPair pair = generator.generateKeyPair();
+            String kid = "ephemeral-" + UUID.randomUUID();
+            return new SigningKey(kid, (RSAPublicKey) pair.getPublic(), pair.getPrivate());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("RSA key generation not available", e);
+        }
+    }
+}
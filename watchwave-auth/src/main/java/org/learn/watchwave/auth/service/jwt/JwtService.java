@@ -1,64 +1,140 @@
 package org.learn.watchwave.auth.service.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SignatureException;
 import org.learn.watchwave.auth.model.entity.User;
+import org.learn.watchwave.auth.model.entity.UserRole;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import io.jsonwebtoken.SignatureAlgorithm;
 
+import javax.crypto.SecretKey;
+import java.security.Key;
+import java.time.Duration;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
 public class JwtService {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    // Built once and shared across request threads; keys are looked up per token by its kid header
+    private final JwtKeyRing keyRing;
+    private final JwtParser parser;
 
-    public boolean isTokenValid(String token) {
+    // Access tokens are short-lived (refresh tokens cover long sessions), so the filter can trust their claims
+    private final boolean stateless;
+    private final Duration tokenLifetime;
+
+    public JwtService(JwtKeyRing keyRing,
+                      @Value("${app.security.stateless:true}") boolean stateless,
+                      @Value("${app.security.access-token-minutes:15}") long accessTokenMinutes) {
+        this.keyRing = keyRing;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return verificationKey(header);
+                    }
+                })
+                .build();
+        this.stateless = stateless;
+        this.tokenLifetime = Duration.ofMinutes(accessTokenMinutes);
+    }
+
+    public boolean isStateless() {
+        return stateless;
+    }
+
+    public Duration getTokenLifetime() {
+        return tokenLifetime;
+    }
+
+    /**
+     * Verifies the signature and expiry and returns the claims, or throws {@link JwtException}.
+     * Callers that need several claims should call this once and keep the result.
+     */
+    public VerifiedToken parse(String token) {
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        return VerifiedToken.of(token, claims);
+    }
+
+    // Empty for malformed, tampered or expired tokens
+    public Optional<VerifiedToken> verify(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(jwtSecret.getBytes())
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
-            return false;
+            return Optional.of(parse(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
         }
     }
 
+    public boolean isTokenValid(String token) {
+        return verify(token).isPresent();
+    }
+
     public UUID extractUserId(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(jwtSecret.getBytes())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        String userIdStr = claims.getSubject();
-        return UUID.fromString(userIdStr);
+        return parse(token).userId();
     }
 
     public String extractUsername(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(jwtSecret.getBytes())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.get("username", String.class);
+        return parse(token).username();
     }
 
     public String generateToken(User user) {
-        long expirationMillis = 1000 * 60 * 60 * 24;
         Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + expirationMillis);
+        Date expiryDate = new Date(now.getTime() + tokenLifetime.toMillis());
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(user.getId().toString())
                 .claim("username", user.getUsername())
+                .claim(VerifiedToken.ROLES_CLAIM, roleNames(user))
+                .claim(VerifiedToken.BLOCKED_CLAIM, user.isBlocked())
                 .setIssuedAt(now)
-                .setExpiration(expiryDate)
-                .signWith(SignatureAlgorithm.HS256, jwtSecret.getBytes())
-                .compact();
+                .setExpiration(expiryDate);
+
+        Optional<SigningKey> rsaKey = keyRing.activeKey();
+        if (rsaKey.isPresent()) {
+            return builder
+                    .setHeaderParam(JwsHeader.KEY_ID, rsaKey.get().kid())
+                    .signWith(rsaKey.get().privateKey(), SignatureAlgorithm.RS256)
+                    .compact();
+        }
+        SecretKey secret = keyRing.hmacKey()
+                .orElseThrow(() -> new IllegalStateException("No JWT signing key configured on this node"));
+        return builder.signWith(secret, SignatureAlgorithm.HS256).compact();
+    }
+
+    // RS256 with a known kid, or HS256 with the shared secret when one is configured. The HMAC key is never
+    // derived from a public key, so alg confusion doesn't apply; alg none and retired keys are rejected
+    private Key verificationKey(JwsHeader<?> header) {
+        String algorithm = header.getAlgorithm();
+        if (SignatureAlgorithm.RS256.getValue().equals(algorithm)) {
+            return keyRing.publicKey(header.getKeyId())
+                    .orElseThrow(() -> new SignatureException("Unknown JWT key id: " + header.getKeyId()));
+        }
+        if (SignatureAlgorithm.HS256.getValue().equals(algorithm) && keyRing.hmacKey().isPresent()) {
+            return keyRing.hmacKey().get();
+        }
+        throw new UnsupportedJwtException("Unsupported JWT algorithm: " + algorithm);
+    }
+
+    // Mirrors CustomUserDetailsService: a user without role rows is treated as USER
+    private List<String> roleNames(User user) {
+        if (user.getRoles() == null || user.getRoles().isEmpty()) {
+            return List.of("USER");
+        }
+        return user.getRoles().stream()
+                .map(UserRole::getRoleName)
+                .sorted()
+                .toList();
     }
 }
@@ -0,0 +1,140 @@
+package org.learn.watchwave.auth.service.jwt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.learn.watchwave.auth.event.UserAccessChangedEvent;
+import org.learn.watchwave.auth.model.entity.RefreshToken;
+import org.learn.watchwave.auth.repository.RefreshTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Opaque, single-use refresh tokens. Each refresh marks the presented token used and issues its successor
+ * in the same family; presenting an already-used token means it leaked, so the whole family is revoked.
+ */
+@Service
+@Slf4j
+public class RefreshTokenService {
+
+    public record Rotation(UUID userId, String refreshToken) {
+    }
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Duration lifetime;
+    private final SecureRandom random = new SecureRandom();
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               @Value("${app.security.refresh-token-days:30}") long lifetimeDays) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.lifetime = Duration.ofDays(lifetimeDays);
+    }
+
+    // Starts a new family, e.g. on login or registration
+    @Transactional
+    public String issue(UUID userId) {
+        return issue(userId, UUID.randomUUID());
+    }
+
+    /**
+     * Consumes the presented token and returns its successor.
+     * Empty for unknown, expired or revoked tokens, and for reused ones (whose family is revoked as a side effect).
+     * Runs in its own transaction: callers throw on an empty result, and that must not roll back the revocation.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<Rotation> rotate(String rawToken) {
+        Optional<RefreshToken> found = refreshTokenRepository.findByTokenHash(hash(rawToken));
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+
+        RefreshToken current = found.get();
+        Timestamp now = Timestamp.from(Instant.now());
+
+        if (current.getRevokedAt() != null || current.getExpiresAt().before(now)) {
+            return Optional.empty();
+        }
+        if (current.getUsedAt() != null) {
+            int revoked = refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            log.warn("Refresh token reuse for user {}; revoked {} token(s) in family {}",
+                    current.getUserId(), revoked, current.getFamilyId());
+            return Optional.empty();
+        }
+
+        current.setUsedAt(now);
+        String successor = issue(current.getUserId(), current.getFamilyId());
+        return Optional.of(new Rotation(current.getUserId(), successor));
+    }
+
+    // Logout: ends the session the token belongs to
+    @Transactional
+    public void revokeFamily(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(
+                        token.getFamilyId(), Timestamp.from(Instant.now())));
+    }
+
+    public Duration getLifetime() {
+        return lifetime;
+    }
+
+    // Block, delete or password change: every session of the user ends with the changing transaction
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onUserAccessChanged(UserAccessChangedEvent event) {
+        if (event.revokesTokens()) {
+            refreshTokenRepository.revokeAllForUser(event.userId(), Timestamp.from(Instant.now()));
+        }
+    }
+
+    // Used and revoked rows are kept until expiry so reuse is still detected
+    @Scheduled(fixedDelayString = "${app.security.refresh-token-purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpiredBefore(Timestamp.from(Instant.now()));
+        if (deleted > 0) {
+            log.debug("Purged {} expired refresh token(s)", deleted);
+        }
+    }
+
+    private String issue(UUID userId, UUID familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        Instant now = Instant.now();
+        RefreshToken token = new RefreshToken();
+        token.setUserId(userId);
+        token.setFamilyId(familyId);
+        token.setTokenHash(hash(rawToken));
+        token.setCreatedAt(Timestamp.from(now));
+        token.setExpiresAt(Timestamp.from(now.plus(lifetime)));
+        refreshTokenRepository.save(token);
+        return rawToken;
+    }
+
+    // Tokens are 256 random bits, so a plain SHA-256 is enough; no salt or slow hash needed
+    private static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package org.learn.watchwave.auth.service.jwt;
+
+import java.security.PrivateKey;
+import java.security.interfaces.RSAPublicKey;
+
+// One RS256 key pair in the ring; privateKey is null for keys this node can only verify with
+public record SigningKey(String kid, RSAPublicKey publicKey, PrivateKey privateKey) {
+
+    public boolean canSign() {
+        return privateKey != null;
+    }
+}
@@ -0,0 +1,46 @@
+package org.learn.watchwave.auth.service.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+// Claims of a token whose signature and expiry have been checked; parse once, then pass this around
+public record VerifiedToken(String token, UUID jti, UUID userId, String username, Instant issuedAt,
+                            Instant expiresAt, List<String> roles, boolean blocked, Claims claims) {
+
+    public static final String ROLES_CLAIM = "roles";
+    public static final String BLOCKED_CLAIM = "blocked";
+
+    static VerifiedToken of(String token, Claims claims) {
+        return new VerifiedToken(
+                token,
+                jti(claims),
+                UUID.fromString(claims.getSubject()),
+                claims.get("username", String.class),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null,
+                roles(claims),
+                Boolean.TRUE.equals(claims.get(BLOCKED_CLAIM, Boolean.class)),
+                claims);
+    }
+
+    // Null for tokens minted before jti was added; those can't be revoked individually
+    private static UUID jti(Claims claims) {
+        try {
+            return claims.getId() != null ? UUID.fromString(claims.getId()) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // Empty for tokens minted before role claims existed
+    private static List<String> roles(Claims claims) {
+        Object raw = claims.get(ROLES_CLAIM);
+        if (!(raw instanceof List<?> list)) {
+            return List.of();
+        }
+        return list.stream().map(String::valueOf).toList();
+    }
+}
@@ -0,0 +1,46 @@
+package org.learn.watchwave.auth.service.role;
+
+import lombok.extern.slf4j.Slf4j;
+import org.learn.watchwave.auth.model.entity.Role;
+import org.learn.watchwave.auth.repository.RoleRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The role rows are static (created once by DataInitializer), so they are loaded at startup and
+ * shared as detached entities instead of being looked up on every registration or role change.
+ */
+@Component
+@Slf4j
+public class RoleCache {
+
+    private final RoleRepository roleRepository;
+    private final Map<String, Role> rolesByName = new ConcurrentHashMap<>();
+
+    public RoleCache(RoleRepository roleRepository) {
+        this.roleRepository = roleRepository;
+    }
+
+    // Runs after the CommandLineRunners, so DataInitializer's roles exist by now
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        roleRepository.findAll().forEach(role -> rolesByName.put(role.getRoleName(), role));
+        log.info("Cached {} role(s)", rolesByName.size());
+    }
+
+    public Role get(String roleName) {
+        Role role = rolesByName.get(roleName);
+        if (role != null) {
+            return role;
+        }
+        // Only before startup completes, or for a role added by hand since
+        role = roleRepository.findByRoleName(roleName)
+                .orElseThrow(() -> new RuntimeException("Role not found: " + roleName));
+        rolesByName.put(roleName, role);
+        return role;
+    }
+}
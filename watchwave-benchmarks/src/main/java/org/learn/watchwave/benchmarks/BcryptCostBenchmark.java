@@ -0,0 +1,72 @@
+package org.learn.watchwave.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one password check at each BCrypt strength on the current machine.
+ *
+ * Run through main to calibrate app.security.bcrypt.strength: it benchmarks every strength and prints the
+ * highest one whose check stays within the target latency (default 250 ms):
+ * java -cp watchwave-benchmarks/target/benchmarks.jar org.learn.watchwave.benchmarks.BcryptCostBenchmark 250
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BcryptCostBenchmark {
+
+    private static final String PASSWORD = "correct horse battery staple";
+
+    @Param({"10", "11", "12", "13", "14"})
+    private int strength;
+
+    private BCryptPasswordEncoder encoder;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(strength);
+        hash = encoder.encode(PASSWORD);
+    }
+
+    // What a login costs (PasswordHasher.verify without a rehash)
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches(PASSWORD, hash);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        double targetMillis = args.length > 0 ? Double.parseDouble(args[0]) : 250;
+
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(BcryptCostBenchmark.class.getName() + ".matches")
+                .build())
+                .run();
+
+        int recommended = -1;
+        for (RunResult result : results) {
+            int resultStrength = Integer.parseInt(result.getParams().getParam("strength"));
+            double millis = result.getPrimaryResult().getScore();
+            System.out.printf("strength %d: %.1f ms%n", resultStrength, millis);
+            if (millis <= targetMillis && resultStrength > recommended) {
+                recommended = resultStrength;
+            }
+        }
+
+        if (recommended < 0) {
+            System.out.printf("No strength stays within %.0f ms; use 10 and add hashing threads%n", targetMillis);
+        } else {
+            System.out.printf("Recommended app.security.bcrypt.strength=%d (target %.0f ms)%n", recommended, targetMillis);
+        }
+    }
+}
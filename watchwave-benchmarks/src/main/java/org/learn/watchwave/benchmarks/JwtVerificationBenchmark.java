@@ -0,0 +1,84 @@
+package org.learn.watchwave.benchmarks;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.learn.watchwave.auth.model.entity.User;
+import org.learn.watchwave.auth.service.jwt.JwtKeyRing;
+import org.learn.watchwave.auth.service.jwt.JwtService;
+import org.learn.watchwave.auth.service.jwt.VerifiedToken;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.security.PublicKey;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of token handling.
+ *
+ * legacyRequest repeats what a request used to do: the filter validated and then extracted the user ID,
+ * and the controller extracted the user ID again through AuthenticationHelper. Each call built a new parser
+ * and verified the signature again. singleParseRequest is the current path: one verify with the shared
+ * parser, then claim reads from the resulting VerifiedToken. Tokens are RS256, so every avoided verify
+ * saves an RSA public-key operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtVerificationBenchmark {
+
+    private JwtService jwtService;
+    private PublicKey publicKey;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        // No keys, no secret, dev profile: the ring generates a throwaway RSA key
+        JwtKeyRing keyRing = new JwtKeyRing("", "", "", "", true);
+        publicKey = keyRing.activeKey().orElseThrow().publicKey();
+        jwtService = new JwtService(keyRing, false, 15);
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setUsername("benchmark-user");
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public void legacyRequest(Blackhole blackhole) {
+        blackhole.consume(legacyParse(token) != null);    // filter: isTokenValid
+        blackhole.consume(legacyUserId(token));           // filter: extractUserId
+        blackhole.consume(legacyUserId(token));           // controller: AuthenticationHelper.extractUserId
+    }
+
+    @Benchmark
+    public void singleParseRequest(Blackhole blackhole) {
+        VerifiedToken verified = jwtService.parse(token); // filter: verify once
+        blackhole.consume(verified.userId());             // controller: read from JwtAuthenticationDetails
+        blackhole.consume(verified.username());
+    }
+
+    @Benchmark
+    public VerifiedToken singleParse() {
+        return jwtService.parse(token);
+    }
+
+    @Benchmark
+    public Claims legacySingleParse() {
+        return legacyParse(token);
+    }
+
+    private UUID legacyUserId(String token) {
+        return UUID.fromString(legacyParse(token).getSubject());
+    }
+
+    private Claims legacyParse(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(publicKey)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
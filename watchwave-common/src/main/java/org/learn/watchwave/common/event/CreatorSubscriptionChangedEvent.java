@@ -0,0 +1,12 @@
+package org.learn.watchwave.common.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// A creator gained (delta = 1) or lost (delta = -1) a subscriber
+public record CreatorSubscriptionChangedEvent(UUID creatorId, int delta, Instant occurredAt) {
+
+    public static CreatorSubscriptionChangedEvent now(UUID creatorId, int delta) {
+        return new CreatorSubscriptionChangedEvent(creatorId, delta, Instant.now());
+    }
+}
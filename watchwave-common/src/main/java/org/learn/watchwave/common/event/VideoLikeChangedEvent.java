@@ -0,0 +1,19 @@
+package org.learn.watchwave.common.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// Net change to a video's like/dislike counts caused by one user's action (each delta is -1, 0 or 1)
+public record VideoLikeChangedEvent(UUID videoId, UUID creatorId, int likeDelta, int dislikeDelta, Instant occurredAt) {
+
+    public static VideoLikeChangedEvent between(UUID videoId, UUID creatorId, Boolean before, Boolean after) {
+        return new VideoLikeChangedEvent(videoId, creatorId,
+                count(after, true) - count(before, true),
+                count(after, false) - count(before, false),
+                Instant.now());
+    }
+
+    private static int count(Boolean state, boolean liked) {
+        return state != null && state == liked ? 1 : 0;
+    }
+}
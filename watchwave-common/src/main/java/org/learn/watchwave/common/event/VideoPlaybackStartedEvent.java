@@ -0,0 +1,7 @@
+package org.learn.watchwave.common.event;
+
+import java.util.UUID;
+
+// A viewer requested the first byte range of a video (creatorId may be null for orphaned videos)
+public record VideoPlaybackStartedEvent(UUID videoId, UUID creatorId, String viewerKey) {
+}
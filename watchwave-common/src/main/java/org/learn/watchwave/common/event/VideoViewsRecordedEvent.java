@@ -0,0 +1,9 @@
+package org.learn.watchwave.common.event;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+// Views added to videos.videos by one flush, per video, for views counted in the UTC hour starting at hour
+public record VideoViewsRecordedEvent(Instant hour, Map<UUID, Long> viewCounts) {
+}
@@ -0,0 +1,6 @@
+package org.learn.watchwave.interactions.model.projection;
+
+public interface LikeCountsView {
+    long getLikes();
+    long getDislikes();
+}
@@ -1,7 +1,10 @@
 package org.learn.watchwave.interactions.repository;
 
 import org.learn.watchwave.interactions.model.entity.VideoLike;
+import org.learn.watchwave.interactions.model.projection.LikeCountsView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -12,4 +15,9 @@ public interface VideoLikeRepository extends JpaRepository<VideoLike, UUID> {
     Optional<VideoLike> findByUserIdAndVideoId(UUID userId, UUID videoId);
     long countByVideoIdAndLiked(UUID videoId, boolean liked);
     void deleteByUserIdAndVideoId(UUID userId, UUID videoId);
+
+    // Pre-aggregated counts maintained by the analytics module
+    @Query(value = "SELECT COALESCE(likes, 0) AS likes, COALESCE(dislikes, 0) AS dislikes FROM analytics.video_analytics " +
+            "WHERE video_id = :videoId", nativeQuery = true)
+    Optional<LikeCountsView> findRollupCounts(@Param("videoId") UUID videoId);
 }
@@ -2,13 +2,16 @@ package org.learn.watchwave.interactions.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import org.learn.watchwave.auth.repository.UserRepository;
+import org.learn.watchwave.common.event.VideoLikeChangedEvent;
 import org.learn.watchwave.videos.service.VideoService;
 import org.learn.watchwave.interactions.dto.request.VideoLikeRequest;
 import org.learn.watchwave.interactions.dto.response.VideoLikeResponse;
 import org.learn.watchwave.interactions.dto.response.VideoLikeCount;
 import org.learn.watchwave.interactions.model.entity.VideoLike;
+import org.learn.watchwave.interactions.model.projection.LikeCountsView;
 import org.learn.watchwave.interactions.repository.VideoLikeRepository;
 import org.learn.watchwave.interactions.service.VideoLikeService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +25,7 @@ public class VideoLikeServiceImpl implements VideoLikeService {
     private final VideoLikeRepository videoLikeRepository;
     private final UserRepository userRepository;
     private final VideoService videoService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -32,10 +36,11 @@ public class VideoLikeServiceImpl implements VideoLikeService {
         }
 
         // Validate video exists (no entity modification)
-        videoService.getVideoById(request.getVideoId());
+        UUID creatorId = videoService.getVideoById(request.getVideoId()).getUploaderId();
 
         // Find existing like/dislike
         Optional<VideoLike> existing = videoLikeRepository.findByUserIdAndVideoId(userId, request.getVideoId());
+        Boolean before = existing.map(VideoLike::getLiked).orElse(null);
         VideoLike videoLike;
         if (existing.isPresent()) {
             videoLike = existing.get();
@@ -48,6 +53,7 @@ public class VideoLikeServiceImpl implements VideoLikeService {
                     .build();
         }
         VideoLike saved = videoLikeRepository.save(videoLike);
+        publishLikeChange(request.getVideoId(), creatorId, before, saved.getLiked());
 
         return toResponseDTO(saved);
     }
@@ -59,9 +65,12 @@ public class VideoLikeServiceImpl implements VideoLikeService {
         if (!userRepository.existsById(userId)) {
             throw new IllegalArgumentException("User not found: " + userId);
         }
-        videoService.getVideoById(videoId);
+        UUID creatorId = videoService.getVideoById(videoId).getUploaderId();
 
-        videoLikeRepository.deleteByUserIdAndVideoId(userId, videoId);
+        videoLikeRepository.findByUserIdAndVideoId(userId, videoId).ifPresent(existing -> {
+            videoLikeRepository.delete(existing);
+            publishLikeChange(videoId, creatorId, existing.getLiked(), null);
+        });
     }
 
     @Override
@@ -70,6 +79,12 @@ public class VideoLikeServiceImpl implements VideoLikeService {
         // Validate video exists
         videoService.getVideoById(videoId);
 
+        // Served from the analytics rollup; videos it hasn't seen yet fall back to counting
+        Optional<LikeCountsView> rollup = videoLikeRepository.findRollupCounts(videoId);
+        if (rollup.isPresent()) {
+            return new VideoLikeCount(rollup.get().getLikes(), rollup.get().getDislikes());
+        }
+
         long likes = videoLikeRepository.countByVideoIdAndLiked(videoId, true);
         long dislikes = videoLikeRepository.countByVideoIdAndLiked(videoId, false);
         return new VideoLikeCount(likes, dislikes);
@@ -83,6 +98,14 @@ public class VideoLikeServiceImpl implements VideoLikeService {
                 .orElse(null);
     }
 
+    // Picked up by the analytics rollup and trending tracker once the transaction commits
+    private void publishLikeChange(UUID videoId, UUID creatorId, Boolean before, Boolean after) {
+        VideoLikeChangedEvent event = VideoLikeChangedEvent.between(videoId, creatorId, before, after);
+        if (event.likeDelta() != 0 || event.dislikeDelta() != 0) {
+            eventPublisher.publishEvent(event);
+        }
+    }
+
     // Helper to map entity to response DTO
     private VideoLikeResponse toResponseDTO(VideoLike like) {
         VideoLikeResponse dto = new VideoLikeResponse();
@@ -1,5 +1,6 @@
 package org.learn.watchwave.subscriptions.config;
 
+import org.learn.watchwave.auth.config.ApiSecurityFilters;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
@@ -16,8 +17,8 @@ import org.springframework.security.web.SecurityFilterChain;
 public class SubscriptionsSecurityConfig {
 
     @Bean
-    public SecurityFilterChain subscriptionsSecurityFilterChain(HttpSecurity http) throws Exception {
-        http
+    public SecurityFilterChain subscriptionsSecurityFilterChain(HttpSecurity http, ApiSecurityFilters apiSecurityFilters) throws Exception {
+        apiSecurityFilters.apply(http)
                 .securityMatcher("/api/users/**/subscriptions/**")
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(authz -> authz
@@ -13,6 +13,6 @@ public interface SubscribeRepository extends JpaRepository<Subscribe, UUID> {
     Optional<Subscribe> findBySubscriberIdAndCreatorId(UUID subscriberId, UUID creatorId);
     List<Subscribe> findBySubscriberIdOrderBySubscribedAtDesc(UUID subscriberId);
     List<Subscribe> findByCreatorIdOrderBySubscribedAtDesc(UUID creatorId);
-    void deleteBySubscriberIdAndCreatorId(UUID subscriberId, UUID creatorId);
+    long deleteBySubscriberIdAndCreatorId(UUID subscriberId, UUID creatorId);
     boolean existsBySubscriberIdAndCreatorId(UUID subscriberId, UUID creatorId);
 }
@@ -1,6 +1,7 @@
 package org.learn.watchwave.subscriptions.services.impl;
 
 import org.learn.watchwave.auth.model.entity.User;
+import org.learn.watchwave.common.event.CreatorSubscriptionChangedEvent;
 import org.learn.watchwave.subscriptions.dto.request.SubscribeRequest;
 import org.learn.watchwave.subscriptions.dto.response.SubscribeResponse;
 import org.learn.watchwave.subscriptions.model.Subscribe;
@@ -9,10 +10,12 @@ import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.learn.watchwave.auth.repository.UserRepository;
 import org.learn.watchwave.subscriptions.repository.SubscribeRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -21,6 +24,7 @@ import java.util.stream.Collectors;
 public class SubscribeServiceImpl implements SubscribeService {
     private final SubscribeRepository subscribeRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -44,7 +48,8 @@ public class SubscribeServiceImpl implements SubscribeService {
             throw new IllegalArgumentException("You can only subscribe to users with the CREATOR role.");
         }
 
-        Subscribe subscribe = subscribeRepository.findBySubscriberIdAndCreatorId(subscriberId, request.getCreatorId())
+        Optional<Subscribe> existing = subscribeRepository.findBySubscriberIdAndCreatorId(subscriberId, request.getCreatorId());
+        Subscribe subscribe = existing
                 .orElse(Subscribe.builder()
                         .subscriberId(subscriberId)
                         .creatorId(request.getCreatorId())
@@ -52,6 +57,9 @@ public class SubscribeServiceImpl implements SubscribeService {
                         .build());
 
         Subscribe saved = subscribeRepository.save(subscribe);
+        if (existing.isEmpty()) {
+            eventPublisher.publishEvent(CreatorSubscriptionChangedEvent.now(request.getCreatorId(), 1));
+        }
         return toResponse(saved);
     }
 
@@ -59,7 +67,9 @@ public class SubscribeServiceImpl implements SubscribeService {
     @Override
     @Transactional
     public void unsubscribe(UUID subscriberId, UUID creatorId) {
-        subscribeRepository.deleteBySubscriberIdAndCreatorId(subscriberId, creatorId);
+        if (subscribeRepository.deleteBySubscriberIdAndCreatorId(subscriberId, creatorId) > 0) {
+            eventPublisher.publishEvent(CreatorSubscriptionChangedEvent.now(creatorId, -1));
+        }
     }
 
     @Override
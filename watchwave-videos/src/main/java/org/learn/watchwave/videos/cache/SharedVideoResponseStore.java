@@ -0,0 +1,30 @@
+package org.learn.watchwave.videos.cache;
+
+import org.learn.watchwave.videos.dto.response.VideoResponse;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Optional second cache tier shared by all nodes (e.g. Redis or Memcached).
+ * When no bean implements this, only the per-node near-cache is used.
+ */
+public interface SharedVideoResponseStore {
+
+    Optional<VideoResponse> get(UUID videoId);
+
+    default Map<UUID, VideoResponse> getAll(Collection<UUID> videoIds) {
+        Map<UUID, VideoResponse> found = new HashMap<>();
+        for (UUID videoId : videoIds) {
+            get(videoId).ifPresent(response -> found.put(videoId, response));
+        }
+        return found;
+    }
+
+    void put(UUID videoId, VideoResponse response);
+
+    void evictAll(Collection<UUID> videoIds);
+}
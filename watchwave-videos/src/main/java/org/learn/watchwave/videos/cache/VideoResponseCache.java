@@ -0,0 +1,155 @@
+package org.learn.watchwave.videos.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.learn.watchwave.videos.dto.response.VideoCacheStatsResponse;
+import org.learn.watchwave.videos.dto.response.VideoResponse;
+import org.learn.watchwave.videos.event.VideosChangedEvent;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of assembled {@link VideoResponse} objects.
+ * Lookups hit the per-node near-cache first, then the optional shared store, then the loader.
+ */
+@Component
+@Slf4j
+public class VideoResponseCache {
+
+    private final Cache<UUID, VideoResponse> nearCache;
+    private final SharedVideoResponseStore sharedStore;
+
+    // Bumped before every eviction; lets a bulk read detect that it may predate a concurrent write
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final LongAdder sharedHits = new LongAdder();
+    private final LongAdder sharedMisses = new LongAdder();
+
+    public VideoResponseCache(@Value("${app.video.cache.max-size:10000}") long maxSize,
+                              @Value("${app.video.cache.ttl-seconds:60}") long ttlSeconds,
+                              ObjectProvider<SharedVideoResponseStore> sharedStore) {
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.sharedStore = sharedStore.getIfAvailable();
+    }
+
+    public VideoResponse get(UUID videoId, Function<UUID, VideoResponse> loader) {
+        return nearCache.get(videoId, id -> loadFromSharedOrSource(id, loader));
+    }
+
+    // Returns whatever is cached for the given IDs without loading the rest
+    public Map<UUID, VideoResponse> getAllPresent(Collection<UUID> videoIds) {
+        Map<UUID, VideoResponse> found = new HashMap<>(nearCache.getAllPresent(videoIds));
+        if (sharedStore == null || found.size() == videoIds.size()) {
+            return found;
+        }
+
+        List<UUID> remaining = videoIds.stream()
+                .filter(id -> !found.containsKey(id))
+                .toList();
+        Map<UUID, VideoResponse> shared = sharedStore.getAll(remaining);
+        sharedHits.add(shared.size());
+        sharedMisses.add(remaining.size() - shared.size());
+
+        nearCache.putAll(shared);
+        found.putAll(shared);
+        return found;
+    }
+
+    // Take before reading from the database, then pass to putIfNotEvicted
+    public long evictionStamp() {
+        return evictions.get();
+    }
+
+    /**
+     * Caches a response read after {@code stamp} was taken, unless an eviction has happened since:
+     * the read may then predate a committed update, and caching it would undo that update's eviction.
+     * Entries already present are kept. The check runs inside the per-key compute, so an eviction
+     * either makes it fail or removes the entry afterwards.
+     */
+    public void putIfNotEvicted(VideoResponse response, long stamp) {
+        boolean[] stored = {false};
+        nearCache.asMap().compute(response.getId(), (id, current) -> {
+            if (current != null || evictions.get() != stamp) {
+                return current;
+            }
+            stored[0] = true;
+            return response;
+        });
+        if (stored[0] && sharedStore != null) {
+            sharedStore.put(response.getId(), response);
+        }
+    }
+
+    public void evictAll(Collection<UUID> videoIds) {
+        evictions.incrementAndGet();
+        nearCache.invalidateAll(videoIds);
+        if (sharedStore != null) {
+            sharedStore.evictAll(videoIds);
+        }
+    }
+
+    // Runs after the writing transaction commits so a concurrent reader can't re-cache the old state
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVideosChanged(VideosChangedEvent event) {
+        evictAll(event.videoIds());
+        log.debug("Evicted {} video(s) from response cache", event.videoIds().size());
+    }
+
+    public VideoCacheStatsResponse stats() {
+        CacheStats near = nearCache.stats();
+        long sharedHitCount = sharedHits.sum();
+        long sharedMissCount = sharedMisses.sum();
+        long sharedRequests = sharedHitCount + sharedMissCount;
+        long totalRequests = near.requestCount();
+        long servedFromCache = near.hitCount() + sharedHitCount;
+
+        return VideoCacheStatsResponse.builder()
+                .nearSize(nearCache.estimatedSize())
+                .nearHitCount(near.hitCount())
+                .nearMissCount(near.missCount())
+                .nearHitRatio(near.hitRate())
+                .nearEvictionCount(near.evictionCount())
+                .sharedTierEnabled(sharedStore != null)
+                .sharedHitCount(sharedHitCount)
+                .sharedMissCount(sharedMissCount)
+                .sharedHitRatio(sharedRequests == 0 ? 1.0 : (double) sharedHitCount / sharedRequests)
+                .overallHitRatio(totalRequests == 0 ? 1.0 : (double) servedFromCache / totalRequests)
+                .build();
+    }
+
+    private VideoResponse loadFromSharedOrSource(UUID videoId, Function<UUID, VideoResponse> loader) {
+        if (sharedStore != null) {
+            Optional<VideoResponse> shared = sharedStore.get(videoId);
+            if (shared.isPresent()) {
+                sharedHits.increment();
+                return shared.get();
+            }
+            sharedMisses.increment();
+        }
+
+        VideoResponse loaded = loader.apply(videoId);
+        if (sharedStore != null && loaded != null) {
+            sharedStore.put(videoId, loaded);
+        }
+        return loaded;
+    }
+}
@@ -1,5 +1,6 @@
 package org.learn.watchwave.videos.config;
 
+import org.learn.watchwave.auth.config.ApiSecurityFilters;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
@@ -20,8 +21,8 @@ import java.util.List;
 public class VideoSecurityConfig {
 
     @Bean
-    public SecurityFilterChain videoSecurityFilterChain(HttpSecurity http) throws Exception {
-        http
+    public SecurityFilterChain videoSecurityFilterChain(HttpSecurity http, ApiSecurityFilters apiSecurityFilters) throws Exception {
+        apiSecurityFilters.apply(http)
                 .securityMatcher("/api/videos/**", "/api/thumbnails/**")
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(csrf -> csrf.disable())
@@ -29,7 +30,10 @@ public class VideoSecurityConfig {
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll() // Allow all OPTIONS requests
                         .requestMatchers(HttpMethod.GET, "/api/videos/*/stream").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/thumbnails/*").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/videos/batch").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/videos/cards", "/api/videos/user/*/cards").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/videos/upload").hasRole("CREATOR")
+                        .requestMatchers("/api/videos/admin/**").hasRole("ADMIN")
                         .anyRequest().denyAll()
                 );
         return http.build();
@@ -41,7 +45,7 @@ public class VideoSecurityConfig {
         config.setAllowedOriginPatterns(List.of("http://localhost:8000")); // Use allowedOriginPatterns
         config.setAllowedMethods(List.of("GET", "POST", "OPTIONS"));
         config.setAllowedHeaders(List.of("*"));
-        config.setExposedHeaders(List.of("Content-Length", "Content-Range")); // Required for streaming
+        config.setExposedHeaders(List.of("Content-Length", "Content-Range", "X-Resume-Position")); // Required for streaming
         config.setMaxAge(3600L);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -1,8 +1,17 @@
 package org.learn.watchwave.videos.controller;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.learn.watchwave.videos.cache.VideoResponseCache;
+import org.learn.watchwave.videos.dto.request.AdminVideoFilter;
+import org.learn.watchwave.videos.dto.request.BulkVideoActionRequest;
+import org.learn.watchwave.videos.dto.response.BulkVideoActionResponse;
+import org.learn.watchwave.videos.dto.response.AdminVideoPageResponse;
+import org.learn.watchwave.videos.dto.response.VideoCacheStatsResponse;
+import org.learn.watchwave.videos.enums.CountMode;
 import org.learn.watchwave.videos.dto.response.VideoResponse;
 import org.learn.watchwave.videos.dto.response.VideoListResponse;
+import org.learn.watchwave.videos.service.VideoModerationService;
 import org.learn.watchwave.videos.service.VideoService;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -20,6 +29,8 @@ import java.util.UUID;
 public class AdminVideoController {
 
     private final VideoService videoService;
+    private final VideoModerationService videoModerationService;
+    private final VideoResponseCache videoResponseCache;
 
     @GetMapping("/all")
     public ResponseEntity<VideoListResponse> getAllVideosForAdmin(
@@ -32,6 +43,18 @@ public class AdminVideoController {
         return ResponseEntity.ok(response);
     }
 
+    // Filterable, keyset-paginated listing (newest first); prefer over /all on large catalogs
+    @GetMapping("/videos")
+    public ResponseEntity<AdminVideoPageResponse> getVideosForAdmin(
+            @ModelAttribute AdminVideoFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "APPROXIMATE") CountMode countMode) {
+
+        AdminVideoPageResponse response = videoService.getVideosForAdmin(filter, cursor, size, countMode);
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{videoId}/restore")
     public ResponseEntity<VideoResponse> restoreVideo(
             @PathVariable UUID videoId,
@@ -49,4 +72,34 @@ public class AdminVideoController {
         videoService.permanentlyDeleteVideo(videoId, authentication);
         return ResponseEntity.noContent().build();
     }
+
+    // Bulk moderation: body carries either videoIds or a filter
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<BulkVideoActionResponse> bulkDelete(
+            @Valid @RequestBody BulkVideoActionRequest request,
+            Authentication authentication) {
+
+        return ResponseEntity.ok(videoModerationService.bulkDelete(request, authentication));
+    }
+
+    @PostMapping("/bulk/restore")
+    public ResponseEntity<BulkVideoActionResponse> bulkRestore(
+            @Valid @RequestBody BulkVideoActionRequest request,
+            Authentication authentication) {
+
+        return ResponseEntity.ok(videoModerationService.bulkRestore(request, authentication));
+    }
+
+    @PostMapping("/bulk/purge")
+    public ResponseEntity<BulkVideoActionResponse> bulkPurge(
+            @Valid @RequestBody BulkVideoActionRequest request,
+            Authentication authentication) {
+
+        return ResponseEntity.ok(videoModerationService.bulkPurge(request, authentication));
+    }
+
+    @GetMapping("/cache/stats")
+    public ResponseEntity<VideoCacheStatsResponse> getCacheStats() {
+        return ResponseEntity.ok(videoResponseCache.stats());
+    }
 }
@@ -1,11 +1,18 @@
 package org.learn.watchwave.videos.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.learn.watchwave.videos.model.Viewer;
 import org.learn.watchwave.videos.service.StreamingService;
+import org.learn.watchwave.videos.util.AuthenticationHelper;
 import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
 @RestController
@@ -15,14 +22,17 @@ import java.util.UUID;
 public class StreamingController {
 
     private final StreamingService streamingService;
+    private final AuthenticationHelper authHelper;
 
     @GetMapping("/videos/{videoId}/stream")
     public ResponseEntity<Resource> streamVideo(
             @PathVariable UUID videoId,
-            @RequestHeader(value = "Range", required = false) String range) {
+            @RequestHeader(value = "Range", required = false) String range,
+            Authentication authentication,
+            HttpServletRequest request) {
 
         log.info("Streaming video: {} with range: {}", videoId, range);
-        return streamingService.streamVideo(videoId, range);
+        return streamingService.streamVideo(videoId, range, resolveViewer(authentication, request));
     }
 
     @GetMapping("/thumbnails/{videoId}")
@@ -30,4 +40,14 @@ public class StreamingController {
         log.info("Serving thumbnail for video: {}", videoId);
         return streamingService.getThumbnail(videoId);
     }
+
+    // Signed-in viewers are identified by user ID, anonymous ones by client address and user agent
+    private Viewer resolveViewer(Authentication authentication, HttpServletRequest request) {
+        if (authHelper.hasToken(authentication)) {
+            UUID userId = authHelper.extractUserId(authentication);
+            return new Viewer(userId, "u:" + userId);
+        }
+        String client = request.getRemoteAddr() + "|" + request.getHeader(HttpHeaders.USER_AGENT);
+        return new Viewer(null, "a:" + UUID.nameUUIDFromBytes(client.getBytes(StandardCharsets.UTF_8)));
+    }
 }
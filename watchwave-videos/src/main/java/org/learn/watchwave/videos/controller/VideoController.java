@@ -3,8 +3,10 @@ package org.learn.watchwave.videos.controller;
 import lombok.RequiredArgsConstructor;
 import org.learn.watchwave.videos.dto.request.UploadVideoRequest;
 import org.learn.watchwave.videos.dto.request.UpdateVideoRequest;
+import org.learn.watchwave.videos.dto.request.VideoBatchRequest;
 import org.learn.watchwave.videos.dto.response.VideoResponse;
 import org.learn.watchwave.videos.dto.response.VideoListResponse;
+import org.learn.watchwave.videos.dto.response.VideoCardListResponse;
 import org.learn.watchwave.videos.service.VideoService;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -16,6 +18,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.learn.watchwave.videos.util.AuthenticationHelper;
 import jakarta.validation.Valid;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -42,6 +45,13 @@ public class VideoController {
         return ResponseEntity.ok(response);
     }
 
+    // Resolves many video IDs in one call (watch-later lists, feeds, sidebars)
+    @PostMapping("/batch")
+    public ResponseEntity<List<VideoResponse>> getVideosBatch(@Valid @RequestBody VideoBatchRequest request) {
+        List<VideoResponse> response = videoService.getVideosByIds(request.getVideoIds());
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping(value = "/{videoId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @PreAuthorize("hasRole('CREATOR') or hasRole('ADMIN')")
     public ResponseEntity<VideoResponse> updateVideo(
@@ -103,4 +113,32 @@ public class VideoController {
 
         return ResponseEntity.ok(response);
     }
+
+    // Compact card listings for feeds (no description, tags or file metadata)
+    @GetMapping("/cards")
+    public ResponseEntity<VideoCardListResponse> getPublicVideoCards(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        Pageable pageable = PageRequest.of(page, size);
+        return ResponseEntity.ok(videoService.getPublicVideoCards(pageable));
+    }
+
+    @GetMapping("/user/{userId}/cards")
+    public ResponseEntity<VideoCardListResponse> getUserVideoCards(
+            @PathVariable UUID userId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+
+        boolean signedIn = authHelper.hasToken(authentication);
+        UUID currentUserId = signedIn ? authHelper.extractUserId(authentication) : null;
+        String currentUserRole = signedIn ? authHelper.extractUserRole(authentication) : null;
+
+        Pageable pageable = PageRequest.of(page, size);
+        VideoCardListResponse response = videoService.getUserVideoCards(
+                userId, currentUserId, currentUserRole, pageable
+        );
+        return ResponseEntity.ok(response);
+    }
 }
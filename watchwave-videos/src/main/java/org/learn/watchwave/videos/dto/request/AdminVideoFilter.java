@@ -0,0 +1,33 @@
+package org.learn.watchwave.videos.dto.request;
+
+import lombok.*;
+import org.learn.watchwave.videos.enums.ProcessingStatus;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdminVideoFilter {
+
+    private ProcessingStatus processingStatus;
+
+    private Boolean deleted;
+
+    private UUID uploaderId;
+
+    // Inclusive lower / exclusive upper bound on created_at
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private Instant createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private Instant createdTo;
+
+    public boolean isEmpty() {
+        return processingStatus == null && deleted == null && uploaderId == null
+                && createdFrom == null && createdTo == null;
+    }
+}
@@ -0,0 +1,24 @@
+package org.learn.watchwave.videos.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkVideoActionRequest {
+
+    // Either an explicit list of IDs...
+    @Size(max = 1000, message = "At most 1000 video IDs per request; use a filter for larger sets")
+    private List<@NotNull UUID> videoIds;
+
+    // ...or a filter selecting the videos (same fields as the admin listing)
+    @Valid
+    private AdminVideoFilter filter;
+}
@@ -0,0 +1,20 @@
+package org.learn.watchwave.videos.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VideoBatchRequest {
+
+    @NotEmpty(message = "At least one video ID is required")
+    @Size(max = 500, message = "At most 500 video IDs can be requested at once")
+    private List<@NotNull UUID> videoIds;
+}
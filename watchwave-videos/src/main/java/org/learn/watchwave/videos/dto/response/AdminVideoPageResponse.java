@@ -0,0 +1,24 @@
+package org.learn.watchwave.videos.dto.response;
+
+import lombok.*;
+import org.learn.watchwave.videos.enums.CountMode;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdminVideoPageResponse {
+
+    private List<VideoResponse> videos;
+    private int pageSize;
+    private boolean hasNext;
+
+    // Pass back as ?cursor= to fetch the next page
+    private String nextCursor;
+
+    // Null when countMode is NONE (or APPROXIMATE with filters applied)
+    private Long totalElements;
+    private CountMode countMode;
+}
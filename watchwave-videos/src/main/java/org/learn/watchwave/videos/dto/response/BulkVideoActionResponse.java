@@ -0,0 +1,17 @@
+package org.learn.watchwave.videos.dto.response;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkVideoActionResponse {
+
+    private String action;
+    private int matched;
+    private int affected;
+
+    // Files handed to the background reaper (purge only)
+    private int filesQueued;
+}
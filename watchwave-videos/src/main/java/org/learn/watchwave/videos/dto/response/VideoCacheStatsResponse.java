@@ -0,0 +1,26 @@
+package org.learn.watchwave.videos.dto.response;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VideoCacheStatsResponse {
+
+    // Per-node near-cache
+    private long nearSize;
+    private long nearHitCount;
+    private long nearMissCount;
+    private double nearHitRatio;
+    private long nearEvictionCount;
+
+    // Optional shared tier (only consulted on near-cache misses)
+    private boolean sharedTierEnabled;
+    private long sharedHitCount;
+    private long sharedMissCount;
+    private double sharedHitRatio;
+
+    // Fraction of lookups that never reached the database
+    private double overallHitRatio;
+}
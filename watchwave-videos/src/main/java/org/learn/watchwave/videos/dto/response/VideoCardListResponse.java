@@ -0,0 +1,33 @@
+package org.learn.watchwave.videos.dto.response;
+
+import lombok.*;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VideoCardListResponse {
+
+    private List<VideoCardResponse> videos;
+    private int currentPage;
+    private int totalPages;
+    private long totalElements;
+    private int pageSize;
+    private boolean hasNext;
+    private boolean hasPrevious;
+
+    public static VideoCardListResponse from(Page<VideoCardResponse> page) {
+        return VideoCardListResponse.builder()
+                .videos(page.getContent())
+                .currentPage(page.getNumber())
+                .totalPages(page.getTotalPages())
+                .totalElements(page.getTotalElements())
+                .pageSize(page.getSize())
+                .hasNext(page.hasNext())
+                .hasPrevious(page.hasPrevious())
+                .build();
+    }
+}
@@ -0,0 +1,42 @@
+package org.learn.watchwave.videos.dto.response;
+
+import lombok.*;
+import org.learn.watchwave.videos.enums.VideoVisibility;
+import org.learn.watchwave.videos.model.projection.VideoCardView;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VideoCardResponse {
+
+    private UUID id;
+    private String title;
+    private String thumbnailUrl;
+
+    private UUID uploaderId;
+    private String uploaderUsername;
+
+    private Long views;
+    private Integer videoDurationSeconds;
+    private VideoVisibility visibility;
+
+    private Timestamp createdAt;
+
+    public static VideoCardResponse from(VideoCardView view) {
+        return VideoCardResponse.builder()
+                .id(view.getId())
+                .title(view.getTitle())
+                .thumbnailUrl(view.getThumbnailUrl())
+                .uploaderId(view.getUploaderId())
+                .uploaderUsername(view.getUploaderUsername())
+                .views(view.getViews())
+                .videoDurationSeconds(view.getVideoDurationSeconds())
+                .visibility(view.getVisibility())
+                .createdAt(view.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,7 @@
+package org.learn.watchwave.videos.enums;
+
+public enum CountMode {
+    EXACT,       // COUNT(*) with the same filters
+    APPROXIMATE, // planner statistics (pg_class.reltuples), unfiltered listings only
+    NONE         // skip counting entirely
+}
@@ -0,0 +1,7 @@
+package org.learn.watchwave.videos.event;
+
+import java.util.List;
+
+// Files that are no longer referenced by any video row and can be removed from disk
+public record VideoFilesReleasedEvent(List<String> filePaths) {
+}
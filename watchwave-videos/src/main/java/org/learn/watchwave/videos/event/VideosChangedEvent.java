@@ -0,0 +1,13 @@
+package org.learn.watchwave.videos.event;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+// Published whenever videos are updated, soft deleted, restored or purged
+public record VideosChangedEvent(Collection<UUID> videoIds) {
+
+    public static VideosChangedEvent of(UUID videoId) {
+        return new VideosChangedEvent(List.of(videoId));
+    }
+}
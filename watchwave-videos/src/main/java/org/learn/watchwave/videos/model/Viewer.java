@@ -0,0 +1,7 @@
+package org.learn.watchwave.videos.model;
+
+import java.util.UUID;
+
+// Who is streaming: userId is null for anonymous viewers, key identifies the viewer either way
+public record Viewer(UUID userId, String key) {
+}
@@ -0,0 +1,19 @@
+package org.learn.watchwave.videos.model.projection;
+
+import org.learn.watchwave.videos.enums.VideoVisibility;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+// Only the columns a video card shows; avoids loading description and file paths
+public interface VideoCardView {
+    UUID getId();
+    String getTitle();
+    String getThumbnailUrl();
+    UUID getUploaderId();
+    String getUploaderUsername();
+    Long getViews();
+    Integer getVideoDurationSeconds();
+    VideoVisibility getVisibility();
+    Timestamp getCreatedAt();
+}
@@ -0,0 +1,10 @@
+package org.learn.watchwave.videos.model.projection;
+
+import java.util.UUID;
+
+// Physical file locations of a video, loaded before a purge
+public interface VideoFilesView {
+    UUID getId();
+    String getVideoFilePath();
+    String getThumbnailFilePath();
+}
@@ -0,0 +1,9 @@
+package org.learn.watchwave.videos.model.projection;
+
+import java.util.UUID;
+
+// One (video, tag name) pair, used to load tags for many videos in one query
+public interface VideoTagNameView {
+    UUID getVideoId();
+    String getTagName();
+}
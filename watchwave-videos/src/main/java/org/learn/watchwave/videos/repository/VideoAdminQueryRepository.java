@@ -0,0 +1,21 @@
+package org.learn.watchwave.videos.repository;
+
+import org.learn.watchwave.videos.dto.request.AdminVideoFilter;
+import org.learn.watchwave.videos.model.VideoKeyset;
+import org.learn.watchwave.videos.model.entity.Video;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+// Filtered, keyset-paginated queries for the admin video console
+public interface VideoAdminQueryRepository {
+
+    List<Video> findAdminPage(AdminVideoFilter filter, VideoKeyset after, int limit);
+
+    // Same filters and ordering, but only the keyset columns (used to walk large selections)
+    List<VideoKeyset> findAdminKeys(AdminVideoFilter filter, VideoKeyset after, int limit);
+
+    long countAdmin(AdminVideoFilter filter);
+
+    OptionalLong estimateTotalVideos();
+}
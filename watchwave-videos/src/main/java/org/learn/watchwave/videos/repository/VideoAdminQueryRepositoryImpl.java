@@ -0,0 +1,118 @@
+package org.learn.watchwave.videos.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.learn.watchwave.videos.dto.request.AdminVideoFilter;
+import org.learn.watchwave.videos.model.VideoKeyset;
+import org.learn.watchwave.videos.model.entity.Video;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+public class VideoAdminQueryRepositoryImpl implements VideoAdminQueryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Video> findAdminPage(AdminVideoFilter filter, VideoKeyset after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Video> query = cb.createQuery(Video.class);
+        Root<Video> video = query.from(Video.class);
+        video.fetch("uploader", JoinType.LEFT);
+
+        query.select(video)
+                .where(pagePredicates(cb, video, filter, after))
+                .orderBy(cb.desc(video.get("createdAt")), cb.desc(video.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<VideoKeyset> findAdminKeys(AdminVideoFilter filter, VideoKeyset after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<VideoKeyset> query = cb.createQuery(VideoKeyset.class);
+        Root<Video> video = query.from(Video.class);
+
+        query.select(cb.construct(VideoKeyset.class, video.get("createdAt"), video.get("id")))
+                .where(pagePredicates(cb, video, filter, after))
+                .orderBy(cb.desc(video.get("createdAt")), cb.desc(video.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public long countAdmin(AdminVideoFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Video> video = query.from(Video.class);
+
+        query.select(cb.count(video))
+                .where(filterPredicates(cb, video, filter).toArray(Predicate[]::new));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    // Planner estimate maintained by ANALYZE/autovacuum; O(1) regardless of table size
+    @Override
+    public OptionalLong estimateTotalVideos() {
+        Object estimate = entityManager.createNativeQuery(
+                        "SELECT reltuples::bigint FROM pg_class WHERE oid = 'videos.videos'::regclass")
+                .getSingleResult();
+
+        long rows = estimate == null ? -1 : ((Number) estimate).longValue();
+        // reltuples is -1 until the table has been analyzed at least once
+        return rows < 0 ? OptionalLong.empty() : OptionalLong.of(rows);
+    }
+
+    private Predicate[] pagePredicates(CriteriaBuilder cb, Root<Video> video, AdminVideoFilter filter, VideoKeyset after) {
+        List<Predicate> predicates = filterPredicates(cb, video, filter);
+        if (after != null) {
+            // (created_at, id) < (cursor.created_at, cursor.id); the redundant <= bound lets the
+            // planner start the index scan at the cursor instead of filtering from the top
+            predicates.add(cb.lessThanOrEqualTo(video.<Timestamp>get("createdAt"), after.createdAt()));
+            predicates.add(cb.or(
+                    cb.lessThan(video.<Timestamp>get("createdAt"), after.createdAt()),
+                    cb.and(
+                            cb.equal(video.<Timestamp>get("createdAt"), after.createdAt()),
+                            cb.lessThan(video.<UUID>get("id"), after.id()))));
+        }
+        return predicates.toArray(Predicate[]::new);
+    }
+
+    private List<Predicate> filterPredicates(CriteriaBuilder cb, Root<Video> video, AdminVideoFilter filter) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter == null) {
+            return predicates;
+        }
+
+        if (filter.getProcessingStatus() != null) {
+            predicates.add(cb.equal(video.get("processingStatus"), filter.getProcessingStatus()));
+        }
+        if (filter.getDeleted() != null) {
+            predicates.add(cb.equal(video.get("isDeleted"), filter.getDeleted()));
+        }
+        if (filter.getUploaderId() != null) {
+            predicates.add(cb.equal(video.get("uploader").get("id"), filter.getUploaderId()));
+        }
+        if (filter.getCreatedFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(video.<Timestamp>get("createdAt"), Timestamp.from(filter.getCreatedFrom())));
+        }
+        if (filter.getCreatedTo() != null) {
+            predicates.add(cb.lessThan(video.<Timestamp>get("createdAt"), Timestamp.from(filter.getCreatedTo())));
+        }
+        return predicates;
+    }
+}
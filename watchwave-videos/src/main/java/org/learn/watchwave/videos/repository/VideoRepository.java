@@ -1,19 +1,25 @@
 package org.learn.watchwave.videos.repository;
 
 import org.learn.watchwave.videos.model.entity.Video;
+import org.learn.watchwave.videos.model.projection.VideoCardView;
+import org.learn.watchwave.videos.model.projection.VideoFilesView;
 import org.learn.watchwave.videos.enums.VideoVisibility;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface VideoRepository extends JpaRepository<Video, UUID> {
+public interface VideoRepository extends JpaRepository<Video, UUID>, VideoAdminQueryRepository {
 
     // Get user's videos with pagination
     Page<Video> findByUploaderIdAndIsDeletedFalse(UUID uploaderId, Pageable pageable);
@@ -34,4 +40,52 @@ public interface VideoRepository extends JpaRepository<Video, UUID> {
             "AND v.isDeleted = false")
     Page<Video> findPublicVideosByUserId(@Param("userId") UUID userId, Pageable pageable);
 
+    // Loads the uploader in the same query so the response can be built without a lazy load
+    @Query("SELECT v FROM Video v LEFT JOIN FETCH v.uploader WHERE v.id = :videoId")
+    Optional<Video> findByIdWithUploader(@Param("videoId") UUID videoId);
+
+    // Batch variant used by the bulk metadata endpoint
+    @Query("SELECT v FROM Video v LEFT JOIN FETCH v.uploader WHERE v.id IN :videoIds")
+    List<Video> findAllWithUploaderByIdIn(@Param("videoIds") Collection<UUID> videoIds);
+
+    // Card projections for listing endpoints (select only what a card renders)
+    String CARD_COLUMNS = "SELECT v.id AS id, v.title AS title, v.thumbnailUrl AS thumbnailUrl, " +
+            "u.id AS uploaderId, u.username AS uploaderUsername, v.views AS views, " +
+            "v.videoDurationSeconds AS videoDurationSeconds, v.visibility AS visibility, " +
+            "v.createdAt AS createdAt FROM Video v LEFT JOIN v.uploader u ";
+
+    @Query(value = CARD_COLUMNS +
+            "WHERE v.visibility = :visibility AND v.isDeleted = false ORDER BY v.createdAt DESC",
+            countQuery = "SELECT COUNT(v) FROM Video v WHERE v.visibility = :visibility AND v.isDeleted = false")
+    Page<VideoCardView> findCardsByVisibility(@Param("visibility") VideoVisibility visibility, Pageable pageable);
+
+    @Query(value = CARD_COLUMNS +
+            "WHERE v.uploader.id = :userId AND v.isDeleted = false ORDER BY v.createdAt DESC",
+            countQuery = "SELECT COUNT(v) FROM Video v WHERE v.uploader.id = :userId AND v.isDeleted = false")
+    Page<VideoCardView> findCardsByUploaderId(@Param("userId") UUID userId, Pageable pageable);
+
+    @Query(value = CARD_COLUMNS +
+            "WHERE v.uploader.id = :userId AND v.visibility = 'PUBLIC' AND v.isDeleted = false " +
+            "ORDER BY v.createdAt DESC",
+            countQuery = "SELECT COUNT(v) FROM Video v WHERE v.uploader.id = :userId " +
+                    "AND v.visibility = 'PUBLIC' AND v.isDeleted = false")
+    Page<VideoCardView> findPublicCardsByUploaderId(@Param("userId") UUID userId, Pageable pageable);
+
+    // Bulk moderation (single statement per chunk, bypasses the persistence context)
+    @Modifying
+    @Query("UPDATE Video v SET v.isDeleted = :deleted, v.updatedAt = :now " +
+            "WHERE v.id IN :videoIds AND v.isDeleted <> :deleted")
+    int updateDeletedFlag(@Param("videoIds") Collection<UUID> videoIds,
+                          @Param("deleted") boolean deleted,
+                          @Param("now") Timestamp now);
+
+    long countByIdIn(Collection<UUID> videoIds);
+
+    @Query("SELECT v.id AS id, v.videoFilePath AS videoFilePath, v.thumbnailFilePath AS thumbnailFilePath " +
+            "FROM Video v WHERE v.id IN :videoIds")
+    List<VideoFilesView> findFilesByIdIn(@Param("videoIds") Collection<UUID> videoIds);
+
+    @Modifying
+    @Query("DELETE FROM Video v WHERE v.id IN :videoIds")
+    int deleteAllByIdIn(@Param("videoIds") Collection<UUID> videoIds);
 }
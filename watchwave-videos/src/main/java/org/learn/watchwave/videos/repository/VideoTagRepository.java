@@ -1,6 +1,7 @@
 package org.learn.watchwave.videos.repository;
 
 import org.learn.watchwave.videos.model.entity.VideoTag;
+import org.learn.watchwave.videos.model.projection.VideoTagNameView;
 import org.learn.watchwave.videos.model.id.VideoTagId;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -8,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -25,6 +27,11 @@ public interface VideoTagRepository extends JpaRepository<VideoTag, VideoTagId>
     @Query("DELETE FROM VideoTag vt WHERE vt.video.id = :videoId")
     void deleteByVideoId(@Param("videoId") UUID videoId);
 
+    // Bulk variant used by admin purges
+    @Modifying
+    @Query("DELETE FROM VideoTag vt WHERE vt.video.id IN :videoIds")
+    int deleteByVideoIdIn(@Param("videoIds") Collection<UUID> videoIds);
+
     // Check if a video has a specific tag
     boolean existsByVideoIdAndTagId(UUID videoId, UUID tagId);
 
@@ -32,6 +39,10 @@ public interface VideoTagRepository extends JpaRepository<VideoTag, VideoTagId>
     @Query("SELECT vt.tag.name FROM VideoTag vt WHERE vt.video.id = :videoId")
     List<String> findTagNamesByVideoId(@Param("videoId") UUID videoId);
 
+    // Get tag names for many videos at once (used when converting a batch of videos)
+    @Query("SELECT vt.video.id AS videoId, vt.tag.name AS tagName FROM VideoTag vt WHERE vt.video.id IN :videoIds")
+    List<VideoTagNameView> findTagNamesByVideoIds(@Param("videoIds") Collection<UUID> videoIds);
+
     // Count how many videos use a specific tag
     long countByTagId(UUID tagId);
 
@@ -0,0 +1,13 @@
+package org.learn.watchwave.videos.service;
+
+import java.util.OptionalInt;
+import java.util.UUID;
+
+/**
+ * Supplies the position a user left a video at, so streaming can tell the player where to resume.
+ * Implementations are called on the stream start path and must answer from memory without blocking.
+ */
+public interface PlaybackPositionProvider {
+
+    OptionalInt findResumePosition(UUID userId, UUID videoId);
+}
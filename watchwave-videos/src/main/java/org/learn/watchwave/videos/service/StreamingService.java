@@ -1,10 +1,11 @@
 package org.learn.watchwave.videos.service;
 
+import org.learn.watchwave.videos.model.Viewer;
 import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
 import java.util.UUID;
 
 public interface StreamingService {
-    ResponseEntity<Resource> streamVideo(UUID videoId, String range);
+    ResponseEntity<Resource> streamVideo(UUID videoId, String range, Viewer viewer);
     ResponseEntity<Resource> getThumbnail(UUID videoId);
 }
@@ -0,0 +1,12 @@
+package org.learn.watchwave.videos.service;
+
+import org.learn.watchwave.videos.dto.request.BulkVideoActionRequest;
+import org.learn.watchwave.videos.dto.response.BulkVideoActionResponse;
+import org.springframework.security.core.Authentication;
+
+public interface VideoModerationService {
+
+    BulkVideoActionResponse bulkDelete(BulkVideoActionRequest request, Authentication authentication);
+    BulkVideoActionResponse bulkRestore(BulkVideoActionRequest request, Authentication authentication);
+    BulkVideoActionResponse bulkPurge(BulkVideoActionRequest request, Authentication authentication);
+}
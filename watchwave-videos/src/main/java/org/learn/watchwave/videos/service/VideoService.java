@@ -2,18 +2,24 @@ package org.learn.watchwave.videos.service;
 
 import org.learn.watchwave.videos.dto.request.UploadVideoRequest;
 import org.learn.watchwave.videos.dto.request.UpdateVideoRequest;
+import org.learn.watchwave.videos.dto.request.AdminVideoFilter;
+import org.learn.watchwave.videos.dto.response.AdminVideoPageResponse;
+import org.learn.watchwave.videos.enums.CountMode;
 import org.learn.watchwave.videos.dto.response.VideoResponse;
 import org.learn.watchwave.videos.dto.response.VideoListResponse;
+import org.learn.watchwave.videos.dto.response.VideoCardListResponse;
 import org.springframework.data.domain.Pageable;
 import org.learn.watchwave.videos.model.entity.Video;
 import org.springframework.security.core.Authentication;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface VideoService {
 
     VideoResponse uploadVideo(UploadVideoRequest request, Authentication authentication);
     VideoResponse getVideoById(UUID videoId);
+    List<VideoResponse> getVideosByIds(List<UUID> videoIds);
     VideoResponse updateVideo(UUID videoId, UpdateVideoRequest request, Authentication authentication);
     void deleteVideo(UUID videoId, Authentication authentication);
 
@@ -26,7 +32,16 @@ public interface VideoService {
     );
     VideoListResponse getCurrentUserVideos(Authentication authentication, Pageable pageable);
 
+    VideoCardListResponse getPublicVideoCards(Pageable pageable);
+    VideoCardListResponse getUserVideoCards(
+            UUID userId,
+            UUID currentUserId,
+            String currentUserRole,
+            Pageable pageable
+    );
+
     VideoListResponse getAllVideosForAdmin(Pageable pageable);
+    AdminVideoPageResponse getVideosForAdmin(AdminVideoFilter filter, String cursor, int size, CountMode countMode);
     VideoResponse restoreVideo(UUID videoId, Authentication authentication);
     void permanentlyDeleteVideo(UUID videoId, Authentication authentication);
     Video getVideoEntityById(UUID videoId);
@@ -2,9 +2,15 @@ package org.learn.watchwave.videos.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.learn.watchwave.common.event.VideoPlaybackStartedEvent;
+import org.learn.watchwave.videos.model.Viewer;
 import org.learn.watchwave.videos.model.entity.Video;
 import org.learn.watchwave.videos.repository.VideoRepository;
+import org.learn.watchwave.videos.service.PlaybackPositionProvider;
 import org.learn.watchwave.videos.service.StreamingService;
+import org.learn.watchwave.videos.views.ViewCounter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
@@ -29,9 +35,12 @@ import java.util.UUID;
 public class StreamingServiceImpl implements StreamingService {
 
     private final VideoRepository videoRepository;
+    private final ViewCounter viewCounter;
+    private final ObjectProvider<PlaybackPositionProvider> playbackPositionProvider;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
-    public ResponseEntity<Resource> streamVideo(UUID videoId, String rangeHeader) {
+    public ResponseEntity<Resource> streamVideo(UUID videoId, String rangeHeader, Viewer viewer) {
         try {
             Video video = videoRepository.findById(videoId)
                     .orElseThrow(() -> new RuntimeException("Video not found: " + videoId));
@@ -67,6 +76,14 @@ public class StreamingServiceImpl implements StreamingService {
                 return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE).build();
             }
 
+            // Players request the first range once per playback; seeks and buffering ask for later offsets
+            boolean playbackStart = start == 0;
+            if (playbackStart) {
+                viewCounter.recordView(videoId, viewer.key());
+                UUID creatorId = video.getUploader() != null ? video.getUploader().getId() : null;
+                eventPublisher.publishEvent(new VideoPlaybackStartedEvent(videoId, creatorId, viewer.key()));
+            }
+
             long contentLength = end - start + 1;
 
             // Prepare headers
@@ -79,6 +96,12 @@ public class StreamingServiceImpl implements StreamingService {
                 headers.set("Content-Range", "bytes " + start + "-" + end + "/" + fileSize);
             }
 
+            if (playbackStart && viewer.userId() != null) {
+                playbackPositionProvider.ifAvailable(provider -> provider
+                        .findResumePosition(viewer.userId(), videoId)
+                        .ifPresent(position -> headers.set("X-Resume-Position", String.valueOf(position))));
+            }
+
             // Use RandomAccessFile for efficient seeking
             RandomAccessFile file = new RandomAccessFile(videoPath.toFile(), "r");
             file.seek(start);
@@ -0,0 +1,159 @@
+package org.learn.watchwave.videos.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.learn.watchwave.videos.dto.request.AdminVideoFilter;
+import org.learn.watchwave.videos.dto.request.BulkVideoActionRequest;
+import org.learn.watchwave.videos.dto.response.BulkVideoActionResponse;
+import org.learn.watchwave.videos.event.VideoFilesReleasedEvent;
+import org.learn.watchwave.videos.event.VideosChangedEvent;
+import org.learn.watchwave.videos.model.VideoKeyset;
+import org.learn.watchwave.videos.model.projection.VideoFilesView;
+import org.learn.watchwave.videos.repository.VideoRepository;
+import org.learn.watchwave.videos.repository.VideoTagRepository;
+import org.learn.watchwave.videos.service.VideoModerationService;
+import org.learn.watchwave.videos.util.AuthenticationHelper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Admin bulk operations. Work is split into chunks of {@link #CHUNK_SIZE} IDs and each chunk
+ * runs as one set-based statement in its own short transaction, so a large cleanup never
+ * holds locks on the whole selection at once.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VideoModerationServiceImpl implements VideoModerationService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final VideoRepository videoRepository;
+    private final VideoTagRepository videoTagRepository;
+    private final AuthenticationHelper authHelper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.video.moderation.max-filter-matches:100000}")
+    private int maxFilterMatches;
+
+    @Override
+    public BulkVideoActionResponse bulkDelete(BulkVideoActionRequest request, Authentication authentication) {
+        return execute("DELETE", request, authentication, chunk -> new ChunkResult(
+                (int) videoRepository.countByIdIn(chunk),
+                videoRepository.updateDeletedFlag(chunk, true, Timestamp.from(Instant.now())), 0));
+    }
+
+    @Override
+    public BulkVideoActionResponse bulkRestore(BulkVideoActionRequest request, Authentication authentication) {
+        return execute("RESTORE", request, authentication, chunk -> new ChunkResult(
+                (int) videoRepository.countByIdIn(chunk),
+                videoRepository.updateDeletedFlag(chunk, false, Timestamp.from(Instant.now())), 0));
+    }
+
+    @Override
+    public BulkVideoActionResponse bulkPurge(BulkVideoActionRequest request, Authentication authentication) {
+        return execute("PURGE", request, authentication, chunk -> {
+            List<String> files = new ArrayList<>();
+            List<VideoFilesView> videos = videoRepository.findFilesByIdIn(chunk);
+            for (VideoFilesView video : videos) {
+                files.add(video.getVideoFilePath());
+                files.add(video.getThumbnailFilePath());
+            }
+            files.removeIf(Objects::isNull);
+
+            videoTagRepository.deleteByVideoIdIn(chunk);
+            int deleted = videoRepository.deleteAllByIdIn(chunk);
+
+            // Recorded for the reaper in this chunk's transaction; removed from disk after commit
+            eventPublisher.publishEvent(new VideoFilesReleasedEvent(files));
+            return new ChunkResult(videos.size(), deleted, files.size());
+        });
+    }
+
+    private BulkVideoActionResponse execute(String action,
+                                            BulkVideoActionRequest request,
+                                            Authentication authentication,
+                                            Function<List<UUID>, ChunkResult> chunkAction) {
+        UUID adminId = authHelper.extractUserId(authentication);
+        boolean byIds = request.getVideoIds() != null && !request.getVideoIds().isEmpty();
+        AdminVideoFilter filter = request.getFilter();
+
+        if (byIds == (filter != null)) {
+            throw new IllegalArgumentException("Provide either videoIds or a filter, not both");
+        }
+        if (!byIds && filter.isEmpty()) {
+            throw new IllegalArgumentException("Filter must restrict at least one field");
+        }
+
+        int matched = 0;
+        int affected = 0;
+        int filesQueued = 0;
+
+        if (byIds) {
+            List<UUID> ids = new ArrayList<>(new LinkedHashSet<>(request.getVideoIds()));
+            for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+                List<UUID> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+                // IDs that don't exist aren't counted as matched
+                ChunkResult result = runChunk(chunk, chunkAction);
+                matched += result.matched();
+                affected += result.affected();
+                filesQueued += result.filesQueued();
+            }
+        } else {
+            VideoKeyset after = null;
+            while (matched < maxFilterMatches) {
+                int limit = Math.min(CHUNK_SIZE, maxFilterMatches - matched);
+                VideoKeyset cursor = after;
+                List<VideoKeyset> keys = transactionTemplate.execute(
+                        status -> videoRepository.findAdminKeys(filter, cursor, limit));
+                if (keys == null || keys.isEmpty()) {
+                    break;
+                }
+
+                ChunkResult result = runChunk(keys.stream().map(VideoKeyset::id).toList(), chunkAction);
+                matched += keys.size();
+                affected += result.affected();
+                filesQueued += result.filesQueued();
+
+                if (keys.size() < limit) {
+                    break;
+                }
+                after = keys.get(keys.size() - 1);
+            }
+        }
+
+        log.info("Bulk {} by admin: {} - matched: {}, affected: {}, files queued: {}",
+                action, adminId, matched, affected, filesQueued);
+
+        return BulkVideoActionResponse.builder()
+                .action(action)
+                .matched(matched)
+                .affected(affected)
+                .filesQueued(filesQueued)
+                .build();
+    }
+
+    private ChunkResult runChunk(List<UUID> chunk, Function<List<UUID>, ChunkResult> chunkAction) {
+        return transactionTemplate.execute(status -> {
+            ChunkResult result = chunkAction.apply(chunk);
+            eventPublisher.publishEvent(new VideosChangedEvent(chunk));
+            return result;
+        });
+    }
+
+    private record ChunkResult(int matched, int affected, int filesQueued) {
+    }
+}
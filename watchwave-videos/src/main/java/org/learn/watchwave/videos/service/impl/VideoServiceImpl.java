@@ -6,23 +6,35 @@ import org.learn.watchwave.auth.model.entity.User;
 import org.learn.watchwave.auth.repository.UserRepository;
 import org.learn.watchwave.videos.dto.request.UploadVideoRequest;
 import org.learn.watchwave.videos.dto.request.UpdateVideoRequest;
+import org.learn.watchwave.videos.dto.request.AdminVideoFilter;
+import org.learn.watchwave.videos.dto.response.AdminVideoPageResponse;
 import org.learn.watchwave.videos.dto.response.VideoResponse;
 import org.learn.watchwave.videos.dto.response.VideoListResponse;
+import org.learn.watchwave.videos.dto.response.VideoCardListResponse;
+import org.learn.watchwave.videos.dto.response.VideoCardResponse;
+import org.learn.watchwave.videos.cache.VideoResponseCache;
+import org.learn.watchwave.videos.event.VideoFilesReleasedEvent;
+import org.learn.watchwave.videos.event.VideosChangedEvent;
+import org.learn.watchwave.videos.enums.CountMode;
 import org.learn.watchwave.videos.enums.ProcessingStatus;
 import org.learn.watchwave.videos.enums.VideoVisibility;
+import org.learn.watchwave.videos.model.VideoKeyset;
 import org.learn.watchwave.videos.model.entity.Tag;
 import org.learn.watchwave.videos.model.entity.Video;
 import org.learn.watchwave.videos.model.entity.VideoTag;
+import org.learn.watchwave.videos.model.projection.VideoTagNameView;
 import org.learn.watchwave.videos.repository.TagRepository;
 import org.learn.watchwave.videos.repository.VideoRepository;
 import org.learn.watchwave.videos.repository.VideoTagRepository;
 import org.learn.watchwave.videos.service.VideoService;
 import org.learn.watchwave.videos.util.AuthenticationHelper;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -31,8 +43,15 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -45,6 +64,10 @@ public class VideoServiceImpl implements VideoService {
     private final VideoTagRepository videoTagRepository;
     private final UserRepository userRepository;
     private final AuthenticationHelper authHelper;
+    private final VideoResponseCache videoResponseCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_ADMIN_PAGE_SIZE = 100;
 
     @Value("${app.video.upload-dir}")
     private String videoUploadDir;
@@ -126,10 +149,15 @@ public class VideoServiceImpl implements VideoService {
         return convertToVideoResponse(savedVideo);
     }
 
+    // SUPPORTS so that cache hits don't open a transaction (and borrow a connection)
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public VideoResponse getVideoById(UUID videoId) {
-        Video video = videoRepository.findById(videoId)
+        return videoResponseCache.get(videoId, this::loadVideoResponse);
+    }
+
+    private VideoResponse loadVideoResponse(UUID videoId) {
+        Video video = videoRepository.findByIdWithUploader(videoId)
                 .orElseThrow(() -> new RuntimeException("Video not found: " + videoId));
 
         if (video.getIsDeleted()) {
@@ -139,6 +167,44 @@ public class VideoServiceImpl implements VideoService {
         return convertToVideoResponse(video);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<VideoResponse> getVideosByIds(List<UUID> videoIds) {
+        Set<UUID> uniqueIds = new LinkedHashSet<>(videoIds);
+        long evictionStamp = videoResponseCache.evictionStamp();
+        Map<UUID, VideoResponse> responses = videoResponseCache.getAllPresent(uniqueIds);
+
+        List<UUID> missingIds = uniqueIds.stream()
+                .filter(id -> !responses.containsKey(id))
+                .toList();
+
+        if (!missingIds.isEmpty()) {
+            List<Video> videos = videoRepository.findAllWithUploaderByIdIn(missingIds).stream()
+                    .filter(video -> !video.getIsDeleted())
+                    .toList();
+            Map<UUID, List<String>> tagsByVideo = findTagNamesByVideoIds(
+                    videos.stream().map(Video::getId).toList());
+
+            for (Video video : videos) {
+                VideoResponse response = convertToVideoResponse(
+                        video, tagsByVideo.getOrDefault(video.getId(), List.of()));
+                // Not cached if an update was evicted meanwhile; this read may be older than it
+                videoResponseCache.putIfNotEvicted(response, evictionStamp);
+                responses.put(video.getId(), response);
+            }
+        }
+
+        // Keep the caller's order; unknown, deleted and private videos are left out
+        List<VideoResponse> result = new ArrayList<>(uniqueIds.size());
+        for (UUID videoId : uniqueIds) {
+            VideoResponse response = responses.get(videoId);
+            if (response != null && response.getVisibility() != VideoVisibility.PRIVATE) {
+                result.add(response);
+            }
+        }
+        return result;
+    }
+
     @Override
     public VideoResponse updateVideo(UUID videoId, UpdateVideoRequest request, Authentication authentication) {
         UUID currentUserId = authHelper.extractUserId(authentication);
@@ -181,6 +247,7 @@ public class VideoServiceImpl implements VideoService {
         }
 
         Video updatedVideo = videoRepository.save(video);
+        eventPublisher.publishEvent(VideosChangedEvent.of(videoId));
         log.info("Video updated successfully: {}", videoId);
 
         return convertToVideoResponse(updatedVideo);
@@ -202,6 +269,7 @@ public class VideoServiceImpl implements VideoService {
         // Soft delete
         video.setIsDeleted(true);
         videoRepository.save(video);
+        eventPublisher.publishEvent(VideosChangedEvent.of(videoId));
 
         if (userRole.equals("ADMIN")) {
             log.info("Video soft deleted by ADMIN: {} - Video ID: {}", currentUserId, videoId);
@@ -247,6 +315,25 @@ public class VideoServiceImpl implements VideoService {
         return getUserVideos(currentUserId, currentUserId, currentUserRole, pageable);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public VideoCardListResponse getPublicVideoCards(Pageable pageable) {
+        return VideoCardListResponse.from(
+                videoRepository.findCardsByVisibility(VideoVisibility.PUBLIC, pageable)
+                        .map(VideoCardResponse::from));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VideoCardListResponse getUserVideoCards(UUID userId, UUID currentUserId, String currentUserRole, Pageable pageable) {
+        boolean isOwnerOrAdmin = userId.equals(currentUserId) || "ADMIN".equals(currentUserRole);
+
+        return VideoCardListResponse.from((isOwnerOrAdmin
+                ? videoRepository.findCardsByUploaderId(userId, pageable)
+                : videoRepository.findPublicCardsByUploaderId(userId, pageable))
+                .map(VideoCardResponse::from));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public VideoListResponse getAllVideosForAdmin(Pageable pageable) {
@@ -255,6 +342,52 @@ public class VideoServiceImpl implements VideoService {
         return VideoListResponse.from(responsePage);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public AdminVideoPageResponse getVideosForAdmin(AdminVideoFilter filter, String cursor, int size, CountMode countMode) {
+        int pageSize = Math.max(1, Math.min(size, MAX_ADMIN_PAGE_SIZE));
+        VideoKeyset after = cursor != null && !cursor.isBlank() ? VideoKeyset.decode(cursor) : null;
+
+        // Fetch one extra row to know whether another page exists
+        List<Video> videos = videoRepository.findAdminPage(filter, after, pageSize + 1);
+        boolean hasNext = videos.size() > pageSize;
+        if (hasNext) {
+            videos = videos.subList(0, pageSize);
+        }
+
+        Map<UUID, List<String>> tagsByVideo = findTagNamesByVideoIds(videos.stream().map(Video::getId).toList());
+        List<VideoResponse> responses = videos.stream()
+                .map(video -> convertToVideoResponse(video, tagsByVideo.getOrDefault(video.getId(), List.of())))
+                .toList();
+
+        Video last = videos.isEmpty() ? null : videos.get(videos.size() - 1);
+
+        return AdminVideoPageResponse.builder()
+                .videos(responses)
+                .pageSize(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? new VideoKeyset(last.getCreatedAt(), last.getId()).encode() : null)
+                .totalElements(countVideosForAdmin(filter, countMode))
+                .countMode(countMode)
+                .build();
+    }
+
+    private Long countVideosForAdmin(AdminVideoFilter filter, CountMode countMode) {
+        switch (countMode) {
+            case EXACT:
+                return videoRepository.countAdmin(filter);
+            case APPROXIMATE:
+                // reltuples only describes the whole table, so it can't answer filtered counts
+                if (!filter.isEmpty()) {
+                    return null;
+                }
+                OptionalLong estimate = videoRepository.estimateTotalVideos();
+                return estimate.isPresent() ? estimate.getAsLong() : null;
+            default:
+                return null;
+        }
+    }
+
     @Override
     public VideoResponse restoreVideo(UUID videoId, Authentication authentication) {
         UUID adminId = authHelper.extractUserId(authentication);
@@ -264,6 +397,7 @@ public class VideoServiceImpl implements VideoService {
 
         video.setIsDeleted(false);
         Video restoredVideo = videoRepository.save(video);
+        eventPublisher.publishEvent(VideosChangedEvent.of(videoId));
 
         log.info("Video restored by admin: {} - Video ID: {}", adminId, videoId);
         return convertToVideoResponse(restoredVideo);
@@ -276,21 +410,20 @@ public class VideoServiceImpl implements VideoService {
         Video video = videoRepository.findById(videoId)
                 .orElseThrow(() -> new RuntimeException("Video not found: " + videoId));
 
-        // Delete physical files
-        try {
-            if (video.getVideoFilePath() != null) {
-                Files.deleteIfExists(Paths.get(video.getVideoFilePath()));
-            }
-            if (video.getThumbnailFilePath() != null) {
-                Files.deleteIfExists(Paths.get(video.getThumbnailFilePath()));
-            }
-        } catch (IOException e) {
-            log.error("Failed to delete physical files for video: {}", videoId, e);
-        }
-
         // Delete from database
         videoTagRepository.deleteByVideoId(videoId);
         videoRepository.delete(video);
+        eventPublisher.publishEvent(VideosChangedEvent.of(videoId));
+
+        // Physical files are removed by the background reaper after commit
+        List<String> files = new ArrayList<>();
+        if (video.getVideoFilePath() != null) {
+            files.add(video.getVideoFilePath());
+        }
+        if (video.getThumbnailFilePath() != null) {
+            files.add(video.getThumbnailFilePath());
+        }
+        eventPublisher.publishEvent(new VideoFilesReleasedEvent(files));
 
         log.info("Video permanently deleted by admin: {} - Video ID: {}", adminId, videoId);
     }
@@ -425,9 +558,20 @@ public class VideoServiceImpl implements VideoService {
         addTagsToVideo(video, tagNames);
     }
 
+    private Map<UUID, List<String>> findTagNamesByVideoIds(Collection<UUID> videoIds) {
+        if (videoIds.isEmpty()) {
+            return Map.of();
+        }
+        return videoTagRepository.findTagNamesByVideoIds(videoIds).stream()
+                .collect(Collectors.groupingBy(VideoTagNameView::getVideoId,
+                        Collectors.mapping(VideoTagNameView::getTagName, Collectors.toList())));
+    }
+
     private VideoResponse convertToVideoResponse(Video video) {
-        List<String> tagNames = videoTagRepository.findTagNamesByVideoId(video.getId());
+        return convertToVideoResponse(video, videoTagRepository.findTagNamesByVideoId(video.getId()));
+    }
 
+    private VideoResponse convertToVideoResponse(Video video, List<String> tagNames) {
         return VideoResponse.builder()
                 .id(video.getId())
                 .title(video.getTitle())
@@ -0,0 +1,138 @@
+package org.learn.watchwave.videos.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.learn.watchwave.videos.event.VideoFilesReleasedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Deletes files of purged videos in the background, at most {@code batch-size} files per tick,
+ * so large cleanups don't tie up request threads or hammer the disk. Pending paths live in
+ * videos.pending_file_deletions, written in the purging transaction, so none are lost to a
+ * restart or a burst, and any node can reap them. A path that fails is retried with exponential
+ * backoff and given up after {@code max-attempts}; its row stays behind for an operator.
+ */
+@Component
+@Slf4j
+public class VideoFileReaper {
+
+    private static final String INSERT_PENDING =
+            "INSERT INTO videos.pending_file_deletions (file_path) VALUES (?)";
+
+    private static final long MAX_BACKOFF_SECONDS = 3600;
+
+    // SKIP LOCKED lets several nodes reap concurrently without taking the same rows.
+    // Failing paths wait out their backoff, so they can't crowd due ones out of the batch
+    private static final String CLAIM_BATCH =
+            "SELECT id, file_path FROM videos.pending_file_deletions " +
+            "WHERE next_attempt_at <= CURRENT_TIMESTAMP AND attempts < ? " +
+            "ORDER BY next_attempt_at, id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String DELETE_DONE =
+            "DELETE FROM videos.pending_file_deletions WHERE id = ANY(?)";
+
+    // Backoff doubles per attempt: retry-base-seconds, twice that, ... up to an hour
+    private static final String RECORD_FAILURE =
+            "UPDATE videos.pending_file_deletions SET attempts = attempts + 1, " +
+            "next_attempt_at = CURRENT_TIMESTAMP + make_interval(secs => LEAST(? * power(2, attempts), ?)) " +
+            "WHERE id = ANY(?)";
+
+    private static final String COUNT_PENDING =
+            "SELECT COUNT(*) FROM videos.pending_file_deletions WHERE attempts < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBaseSeconds;
+
+    public VideoFileReaper(JdbcTemplate jdbcTemplate,
+                           TransactionTemplate transactionTemplate,
+                           @Value("${app.video.reaper.batch-size:50}") int batchSize,
+                           @Value("${app.video.reaper.max-attempts:10}") int maxAttempts,
+                           @Value("${app.video.reaper.retry-base-seconds:30}") long retryBaseSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBaseSeconds = retryBaseSeconds;
+    }
+
+    // Same transaction as the row deletion: a rolled back purge keeps its files, a committed one can't lose them
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onFilesReleased(VideoFilesReleasedEvent event) {
+        List<String> paths = event.filePaths().stream()
+                .filter(Objects::nonNull)
+                .toList();
+        if (!paths.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_PENDING, paths, batchSize,
+                    (ps, path) -> ps.setString(1, path));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.video.reaper.interval-ms:1000}")
+    public void reap() {
+        Integer reaped = transactionTemplate.execute(status -> {
+            List<Long> done = new ArrayList<>();
+            List<Long> failed = new ArrayList<>();
+
+            jdbcTemplate.query(CLAIM_BATCH, ps -> {
+                ps.setInt(1, maxAttempts);
+                ps.setInt(2, batchSize);
+            }, rs -> {
+                long id = rs.getLong("id");
+                String filePath = rs.getString("file_path");
+                try {
+                    Files.deleteIfExists(Paths.get(filePath));
+                    done.add(id);
+                } catch (IOException | RuntimeException e) {
+                    // Only this row is retried later; a bad path (InvalidPathException, SecurityException) can't
+                    // roll back the rest of the batch
+                    log.error("Failed to delete file: {}", filePath, e);
+                    failed.add(id);
+                }
+            });
+
+            if (!done.isEmpty()) {
+                jdbcTemplate.update(DELETE_DONE, ps -> ps.setArray(1, idArray(ps, done)));
+            }
+            if (!failed.isEmpty()) {
+                jdbcTemplate.update(RECORD_FAILURE, ps -> {
+                    ps.setLong(1, retryBaseSeconds);
+                    ps.setLong(2, MAX_BACKOFF_SECONDS);
+                    ps.setArray(3, idArray(ps, failed));
+                });
+            }
+            return done.size();
+        });
+
+        if (reaped != null && reaped > 0) {
+            log.info("Reaped {} file(s)", reaped);
+        }
+    }
+
+    // Paths still being retried; ones past max-attempts are not counted
+    public long pendingCount() {
+        Long count = jdbcTemplate.queryForObject(COUNT_PENDING, Long.class, maxAttempts);
+        return count == null ? 0 : count;
+    }
+
+    private static Array idArray(PreparedStatement ps, List<Long> ids) throws SQLException {
+        return ps.getConnection().createArrayOf("bigint", ids.toArray());
+    }
+}
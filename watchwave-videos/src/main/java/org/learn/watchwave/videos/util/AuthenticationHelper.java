@@ -1,6 +1,8 @@
 package org.learn.watchwave.videos.util;
 
+import org.learn.watchwave.auth.security.JwtAuthenticationDetails;
 import org.learn.watchwave.auth.service.jwt.JwtService;
+import org.learn.watchwave.auth.service.jwt.VerifiedToken;
 import org.learn.watchwave.auth.repository.UserRepository;
 import org.learn.watchwave.auth.model.entity.User;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,13 +24,19 @@ public class AuthenticationHelper {
     private UserRepository userRepository;
 
     public UUID extractUserId(Authentication authentication) {
-        String token = extractTokenFromAuthentication(authentication);
-        return jwtService.extractUserId(token);
+        return verifiedToken(authentication).userId();
     }
 
     public String extractUsername(Authentication authentication) {
-        String token = extractTokenFromAuthentication(authentication);
-        return jwtService.extractUsername(token);
+        return verifiedToken(authentication).username();
+    }
+
+    // Claims verified by the JWT filter for this request; only parses when the filter didn't run
+    public VerifiedToken verifiedToken(Authentication authentication) {
+        if (authentication != null && authentication.getDetails() instanceof JwtAuthenticationDetails details) {
+            return details.getVerifiedToken();
+        }
+        return jwtService.parse(extractTokenFromAuthentication(authentication));
     }
 
     public String extractUserRole(Authentication authentication) {
@@ -64,10 +72,15 @@ public class AuthenticationHelper {
         return false;
     }
 
+    // True when the request carried a bearer token (anonymous requests have no token credentials)
+    public boolean hasToken(Authentication authentication) {
+        return authentication != null && authentication.getCredentials() instanceof String;
+    }
+
     public boolean isTokenValid(Authentication authentication) {
         try {
-            String token = extractTokenFromAuthentication(authentication);
-            return jwtService.isTokenValid(token);
+            verifiedToken(authentication);
+            return true;
         } catch (Exception e) {
             return false;
         }
@@ -0,0 +1,77 @@
+package org.learn.watchwave.videos.views;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.learn.watchwave.common.event.VideoViewsRecordedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Periodically writes buffered view counts as one batched UPDATE of videos.videos per flush,
+ * however many views arrived in between.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ViewCountFlusher {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String UPDATE_VIDEO_VIEWS =
+            "UPDATE videos.videos SET views = views + ? WHERE id = ?";
+
+    private final ViewCounter viewCounter;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Scheduled(fixedDelayString = "${app.video.views.flush-interval-ms:5000}")
+    public void flush() {
+        Map<Instant, Map<UUID, Long>> countsByHour = viewCounter.drain();
+        if (countsByHour.isEmpty()) {
+            return;
+        }
+
+        // videos.videos only keeps the total; the hours go to the analytics event below
+        Map<UUID, Long> totals = new HashMap<>();
+        countsByHour.values().forEach(counts ->
+                counts.forEach((videoId, count) -> totals.merge(videoId, count, Long::sum)));
+
+        // Same lock order on every node avoids deadlocks between concurrent flushes
+        List<Map.Entry<UUID, Long>> rows = new ArrayList<>(totals.entrySet());
+        rows.sort(Map.Entry.comparingByKey());
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(UPDATE_VIDEO_VIEWS, rows, BATCH_SIZE, (ps, row) -> {
+                    ps.setLong(1, row.getValue());
+                    ps.setObject(2, row.getKey());
+                });
+            });
+            log.debug("Flushed views for {} video(s)", rows.size());
+        } catch (Exception e) {
+            viewCounter.addAll(countsByHour);
+            log.error("Failed to flush views for {} video(s), will retry", rows.size(), e);
+            return;
+        }
+
+        // Analytics rollups pick the committed counts up from here, bucketed by when the views happened
+        countsByHour.forEach((hour, counts) -> eventPublisher.publishEvent(new VideoViewsRecordedEvent(hour, counts)));
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
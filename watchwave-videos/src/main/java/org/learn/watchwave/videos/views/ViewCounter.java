@@ -0,0 +1,104 @@
+package org.learn.watchwave.videos.views;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory view counts waiting to be flushed, kept per video and the UTC hour they were counted in.
+ * Each gets its own striped {@link LongAdder}, so concurrent viewers of the same video don't contend
+ * on a single row or counter.
+ */
+@Component
+public class ViewCounter {
+
+    private record HourKey(UUID videoId, Instant hour) {
+    }
+
+    private final ConcurrentHashMap<HourKey, LongAdder> pending = new ConcurrentHashMap<>();
+    private final Cache<String, Boolean> recentViewers;
+
+    // Adders removed on the last drain; a writer may still have incremented one after removal
+    private List<LongAdder> retired = new ArrayList<>();
+    private List<HourKey> retiredKeys = new ArrayList<>();
+
+    public ViewCounter(@Value("${app.video.views.dedup-minutes:30}") long dedupMinutes,
+                       @Value("${app.video.views.dedup-max-size:1000000}") long dedupMaxSize) {
+        this.recentViewers = Caffeine.newBuilder()
+                .maximumSize(dedupMaxSize)
+                .expireAfterWrite(Duration.ofMinutes(dedupMinutes))
+                .build();
+    }
+
+    // Counts a view unless the same viewer was already counted for this video within the dedup window
+    public boolean recordView(UUID videoId, String viewerKey) {
+        if (recentViewers.asMap().putIfAbsent(videoId + ":" + viewerKey, Boolean.TRUE) != null) {
+            return false;
+        }
+        add(new HourKey(videoId, Instant.now().truncatedTo(ChronoUnit.HOURS)), 1);
+        return true;
+    }
+
+    // Puts back counts from a failed flush so they are retried next time, still under their own hour
+    public void addAll(Map<Instant, Map<UUID, Long>> countsByHour) {
+        countsByHour.forEach((hour, counts) ->
+                counts.forEach((videoId, count) -> add(new HourKey(videoId, hour), count)));
+    }
+
+    // Counts per video, grouped by hour. Called only from the single flushing thread
+    public synchronized Map<Instant, Map<UUID, Long>> drain() {
+        Map<Instant, Map<UUID, Long>> counts = new HashMap<>();
+
+        for (int i = 0; i < retired.size(); i++) {
+            long late = retired.get(i).sumThenReset();
+            if (late > 0) {
+                merge(counts, retiredKeys.get(i), late);
+            }
+        }
+
+        List<LongAdder> nowRetired = new ArrayList<>();
+        List<HourKey> nowRetiredKeys = new ArrayList<>();
+        for (Map.Entry<HourKey, LongAdder> entry : pending.entrySet()) {
+            long count = entry.getValue().sumThenReset();
+            if (count > 0) {
+                merge(counts, entry.getKey(), count);
+            } else if (pending.remove(entry.getKey(), entry.getValue())) {
+                // Idle video or past hour: drop its adder but check it once more on the next drain
+                nowRetired.add(entry.getValue());
+                nowRetiredKeys.add(entry.getKey());
+            }
+        }
+        retired = nowRetired;
+        retiredKeys = nowRetiredKeys;
+
+        return counts;
+    }
+
+    public int trackedVideoCount() {
+        return pending.size();
+    }
+
+    private void add(HourKey key, long count) {
+        LongAdder adder = pending.get(key);
+        if (adder == null) {
+            adder = pending.computeIfAbsent(key, k -> new LongAdder());
+        }
+        adder.add(count);
+    }
+
+    private static void merge(Map<Instant, Map<UUID, Long>> counts, HourKey key, long count) {
+        counts.computeIfAbsent(key.hour(), hour -> new HashMap<>()).merge(key.videoId(), count, Long::sum);
+    }
+}